@@ -0,0 +1,404 @@
+package model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import model.configurables.RandomGenerator;
+import model.goodsandservices.LocalShop;
+import model.goodsandservices.PricingEngine;
+import model.goodsandservices.RestockPolicy;
+import model.goodsandservices.RestockScheduler;
+import model.goodsandservices.Shop;
+import model.goodsandservices.ShopRegistry;
+import model.pets.Pet;
+import model.pets.State;
+
+// represents a game session without any user interface: a player, their pet and the shops they buy from,
+// advanced one game tick at a time by whichever client runs it, so the same game can be driven by the
+// Swing timer, a server or a benchmark as fast as it can call tick;
+// most ticks change nothing but the tick count, so the engine can also work out the next tick anything is
+// due at, from the period of each of its rules and the deadlines of its shops, and jump straight to it
+public class GameEngine {
+    public static final long NO_EVENT = Long.MAX_VALUE;
+
+    public static final ArrayList<String> ANIMALS_IN_ADOPTION_CLINIC =
+            new ArrayList<>(Arrays.asList("ExampleAnimal", "Dog"));
+
+    public static final String DEFAULT_SHOP_NAME = "Kira Kira Pets";
+
+    public static final int TICKS_PER_SECOND = 100;
+
+    public static final int MAX_HAPPINESS = 100;
+    public static final int MAX_HUNGER = 100;
+    public static final int MAX_THIRST = 100;
+    public static final int MAX_HEALTH = 100;
+
+    private static final int HAPPINESS_LOSS = 1;
+    private static final int HUNGER_LOSS = 1;
+    private static final int THIRST_LOSS = 1;
+    private static final int HEALTH_LOSS = 1;
+
+    public static final int STARTING_MONEY = 1000;
+    private static final int STARTER_FOOD_MAX_PRICE = 200;
+    private static final int MONEY_GAINED_PER_SECOND = 20;
+    private static final int SECONDS_PER_INCOME = 1;
+
+    private static final int SECONDS_PER_AGING = 60;
+    private static final int SECONDS_PER_CARE_LEVELS_DECREMENT = 5;
+
+    private static final RestockPolicy SHOP_RESTOCK_POLICY = new RestockPolicy(120, 5, 1, 10);
+
+    private static final int SECONDS_PER_REPRICE = 30;
+    private static final double DEMAND_HALF_LIFE_SECONDS = 300;
+    private static final double REFERENCE_DEMAND = 5;
+    private static final double MIN_PRICE_MULTIPLIER = 0.8;
+    private static final double MAX_PRICE_MULTIPLIER = 1.5;
+
+    private long sessionId;
+    private int ticksPassed = 0;
+    private int secondsPassed = 0;
+
+    private boolean endGame = false;
+    private Player player;
+    private Pet pet;
+    private ShopRegistry shops;
+    private final RestockScheduler restockScheduler = new RestockScheduler();
+    private final RandomGenerator rng = new RandomGenerator();
+
+    // EFFECTS: constructs a new game session for player and pet with a randomly stocked default shop,
+    //          which always starts with some cheap food
+    public GameEngine(Player player, Pet pet) throws IOException {
+        Shop shop = new LocalShop(DEFAULT_SHOP_NAME);
+        shop.stockWithRandomItems("Food", 0, STARTER_FOOD_MAX_PRICE, 2, 15);
+        shop.stockWithRandomItems(3, 10);
+
+        this.player = player;
+        setPet(pet);
+        shops = new ShopRegistry();
+        addShop(shop);
+        sessionId = generateSessionId();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: generates a new session id for the current session and returns it
+    private long generateSessionId() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  progresses the game by one tick
+    public void tick() {
+        ticksPassed++;
+        player.getLedger().advanceTo(ticksPassed);
+        if (ticksPassed % TICKS_PER_SECOND == 0) {
+            secondsPassed++;
+
+            if ((secondsPassed % SECONDS_PER_AGING) == 0) {
+                pet.setAge(pet.getAge() + 1);
+            }
+
+            if ((secondsPassed % SECONDS_PER_CARE_LEVELS_DECREMENT) == 0) {
+                pet.decrementCareLevels(HAPPINESS_LOSS,
+                        HUNGER_LOSS,
+                        THIRST_LOSS,
+                        HEALTH_LOSS);
+            }
+
+            if ((secondsPassed % SECONDS_PER_INCOME) == 0) {
+                player.earnMoney(MONEY_GAINED_PER_SECOND * SECONDS_PER_INCOME);
+            }
+            restockScheduler.runDue(secondsPassed);
+            advanceShopPricing();
+        }
+
+        if (pet.checkIsDead()) {
+            pet.setState(State.DEAD);
+            endGame = true;
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: ticks >= 0
+    // EFFECTS:  progresses the game by up to ticks ticks, stopping early if the game ends,
+    //           and returns the number of ticks that were run
+    public int advance(int ticks) {
+        int start = ticksPassed;
+
+        advanceTo((long) ticksPassed + ticks);
+        return ticksPassed - start;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  progresses the game up to tick targetTick, or until the game ends, with the same result
+    //           as calling tick until then; only the ticks at which something is due are run, and the
+    //           ticks in between are skipped
+    public void advanceTo(long targetTick) {
+        long target = Math.min(targetTick, Integer.MAX_VALUE);
+
+        while (ticksPassed < target && !endGame) {
+            long next = pet.checkIsDead() ? ticksPassed + 1 : Math.min(getNextEventTick(), target);
+            ticksPassed = (int) next - 1;
+            tick();
+        }
+    }
+
+    // EFFECTS: returns the next tick at which anything but the tick count changes, or NO_EVENT if the game
+    //          has ended; that is the first second boundary at which income, care levels decrement or aging
+    //          is due, or at which a shop is due to be restocked or repriced
+    public long getNextEventTick() {
+        if (endGame) {
+            return NO_EVENT;
+        }
+
+        long nextSecond = Math.min(nextSecondDue(SECONDS_PER_INCOME),
+                Math.min(nextSecondDue(SECONDS_PER_CARE_LEVELS_DECREMENT), nextSecondDue(SECONDS_PER_AGING)));
+        nextSecond = Math.min(nextSecond, Math.max(restockScheduler.getNextDeadline(), secondsPassed + 1L));
+        for (Shop shop : shops) {
+            if (shop.getPricingEngine() != null && !shops.isShared(shop)) {
+                nextSecond = Math.min(nextSecond, Math.max(shop.getPricingEngine().getNextReprice(),
+                        secondsPassed + 1L));
+            }
+        }
+
+        long nextBoundary = ((long) ticksPassed / TICKS_PER_SECOND + 1) * TICKS_PER_SECOND;
+        return nextBoundary + (nextSecond - secondsPassed - 1) * TICKS_PER_SECOND;
+    }
+
+    // EFFECTS: returns the first game second after the current one that is a multiple of period
+    private long nextSecondDue(int period) {
+        return ((long) secondsPassed / period + 1) * period;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: seconds >= 0
+    // EFFECTS:  applies seconds of game time at once with the same result as ticking through them:
+    //           the pet ages every SECONDS_PER_AGING seconds, its care levels drop every
+    //           SECONDS_PER_CARE_LEVELS_DECREMENT seconds, the player earns money every second, and shops
+    //           that came due are restocked and repriced once; if the pet dies along the way, only the
+    //           seconds up to its death are applied and the game ends on the tick it died; takes the same
+    //           time however many seconds there are, and returns the number of seconds applied
+    public long applyOfflineProgress(long seconds) {
+        if (endGame || seconds <= 0) {
+            return 0;
+        }
+
+        long untilDeath = secondsUntilDeath();
+        long applied = Math.min(seconds, Math.min(untilDeath, secondsUntilTicksOverflow()));
+        ageAndDecayOver(secondsPassed, secondsPassed + applied);
+        earnOver(applied);
+
+        ticksPassed += (int) (applied * TICKS_PER_SECOND);
+        if (applied == untilDeath && applied > 0) {
+            ticksPassed -= ticksPassed % TICKS_PER_SECOND;
+        }
+        secondsPassed += (int) applied;
+        player.getLedger().advanceTo(ticksPassed);
+        catchUpShops();
+
+        if (pet.checkIsDead()) {
+            pet.setState(State.DEAD);
+            endGame = true;
+        }
+        return applied;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  restocks and reprices once every shop that came due by the current game second
+    private void catchUpShops() {
+        restockScheduler.catchUp(secondsPassed);
+        advanceShopPricing();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  reprices every shop of the game's own that is due by the current game second
+    private void advanceShopPricing() {
+        for (Shop shop : shops) {
+            if (!shops.isShared(shop)) {
+                shop.advancePricing(secondsPassed);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  ages the pet and drops its care levels for every aging and care levels decrement
+    //           that falls after game second from up to and including game second to
+    private void ageAndDecayOver(long from, long to) {
+        long agings = to / SECONDS_PER_AGING - from / SECONDS_PER_AGING;
+        long decrements = to / SECONDS_PER_CARE_LEVELS_DECREMENT - from / SECONDS_PER_CARE_LEVELS_DECREMENT;
+
+        pet.setAge((int) Math.min(pet.getAge() + agings, Integer.MAX_VALUE));
+        pet.decrementCareLevels(totalLoss(decrements, HAPPINESS_LOSS),
+                totalLoss(decrements, HUNGER_LOSS),
+                totalLoss(decrements, THIRST_LOSS),
+                totalLoss(decrements, HEALTH_LOSS));
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  gives the player the money earned over seconds seconds, as much as their money can hold
+    private void earnOver(long seconds) {
+        long earned = Math.min(seconds * MONEY_GAINED_PER_SECOND, Integer.MAX_VALUE - (long) player.getMoney());
+
+        if (earned > 0) {
+            player.earnMoney((int) earned);
+        }
+    }
+
+    // EFFECTS: returns the care level lost over decrements decrements of loss each, capped to an int
+    private static int totalLoss(long decrements, int loss) {
+        return (int) Math.min(decrements * loss, Integer.MAX_VALUE);
+    }
+
+    // EFFECTS: returns the number of seconds from now until the care levels decrement that first
+    //          brings one of the pet's care levels to 0, or 0 if one of them already is
+    private long secondsUntilDeath() {
+        long decrementsLeft = Math.min(
+                Math.min(decrementsUntilEmpty(pet.getHappiness(), HAPPINESS_LOSS),
+                        decrementsUntilEmpty(pet.getHunger(), HUNGER_LOSS)),
+                Math.min(decrementsUntilEmpty(pet.getThirst(), THIRST_LOSS),
+                        decrementsUntilEmpty(pet.getHealth(), HEALTH_LOSS)));
+
+        if (decrementsLeft == 0 || decrementsLeft == Long.MAX_VALUE) {
+            return decrementsLeft;
+        }
+        long lastDecrement = secondsPassed / SECONDS_PER_CARE_LEVELS_DECREMENT + decrementsLeft;
+        return lastDecrement * SECONDS_PER_CARE_LEVELS_DECREMENT - secondsPassed;
+    }
+
+    // EFFECTS: returns the number of decrements of loss it takes to bring level to 0
+    private static long decrementsUntilEmpty(int level, int loss) {
+        if (level <= 0) {
+            return 0;
+        }
+        return (loss <= 0) ? Long.MAX_VALUE : (level + loss - 1) / loss;
+    }
+
+    // EFFECTS: returns the most seconds that can pass before ticksPassed no longer fits in an int
+    private long secondsUntilTicksOverflow() {
+        return (Integer.MAX_VALUE - (long) ticksPassed) / TICKS_PER_SECOND;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds shop to the game, replacing any shop with the same name,
+    //           and schedules it to be restocked and repriced
+    public void addShop(Shop shop) {
+        Shop replaced = shops.add(shop);
+        if (replaced != null) {
+            restockScheduler.unschedule(replaced);
+        }
+        scheduleShop(shop);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds shop, which is shared with other games, to the game, replacing any shop with the same
+    //           name; whoever shares it restocks and reprices it, so the game neither schedules nor saves it
+    public void addSharedShop(Shop shop) {
+        Shop replaced = shops.addShared(shop);
+        if (replaced != null) {
+            restockScheduler.unschedule(replaced);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes the shop with shopName from the game, if there is one
+    public void removeShop(String shopName) {
+        Shop removed = shops.remove(shopName);
+        if (removed != null) {
+            restockScheduler.unschedule(removed);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  schedules every shop of the game's own to be restocked from the current game second
+    private void scheduleShops() {
+        restockScheduler.clear();
+        for (Shop shop : shops) {
+            if (!shops.isShared(shop)) {
+                scheduleShop(shop);
+            }
+        }
+    }
+
+    // MODIFIES: this, shop
+    // EFFECTS:  schedules shop to be restocked by SHOP_RESTOCK_POLICY from the current game second,
+    //           and gives shop a pricing engine if it has none
+    private void scheduleShop(Shop shop) {
+        restockScheduler.schedule(shop, SHOP_RESTOCK_POLICY, secondsPassed);
+        if (shop.getPricingEngine() == null) {
+            shop.setPricingEngine(new PricingEngine(SECONDS_PER_REPRICE, DEMAND_HALF_LIFE_SECONDS,
+                    REFERENCE_DEMAND, MIN_PRICE_MULTIPLIER, MAX_PRICE_MULTIPLIER));
+        }
+    }
+
+    // EFFECTS: returns true if game has ended
+    public boolean isEnded() {
+        return endGame;
+    }
+
+    // EFFECTS: returns the Shop with the given shopName, or null if there is none
+    public Shop getShopByName(String shopName) {
+        return shops.get(shopName);
+    }
+
+    // GETTERS
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public Pet getPet() {
+        return pet;
+    }
+
+    public int getTicksPassed() {
+        return ticksPassed;
+    }
+
+    public int getSecondsPassed() {
+        return secondsPassed;
+    }
+
+    public ShopRegistry getShops() {
+        return shops;
+    }
+
+    public RestockScheduler getRestockScheduler() {
+        return restockScheduler;
+    }
+
+    // SETTERS
+    public void setSessionId(long sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public void setPlayer(Player player) {
+        this.player = player;
+    }
+
+    // the pet draws its random choices from the game's own generator, so games never share one
+    public void setPet(Pet pet) {
+        this.pet = pet;
+        if (pet != null) {
+            pet.setRandomGenerator(rng);
+        }
+    }
+
+    public void setShops(ShopRegistry shops) {
+        this.shops = shops;
+        scheduleShops();
+    }
+
+    public void setTicksPassed(int ticksPassed) {
+        this.ticksPassed = ticksPassed;
+    }
+
+    // restock deadlines are counted from the new game second, so a loaded game
+    // does not restock for all the game seconds it was saved at
+    public void setSecondsPassed(int secondsPassed) {
+        this.secondsPassed = secondsPassed;
+        scheduleShops();
+    }
+}
@@ -0,0 +1,184 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import model.goodsandservices.Item;
+import model.goodsandservices.Shop;
+import model.pets.Pet;
+import model.pets.State;
+
+// represents the state of a game as it was after one of its ticks, copied out of the game so that
+// other threads can read it while the game keeps running; a snapshot never changes once taken
+public class GameSnapshot {
+    private final int ticksPassed;
+    private final int secondsPassed;
+    private final boolean ended;
+
+    private final int money;
+    private final List<Item> inventoryItems;
+    private final List<Integer> inventoryCounts;
+
+    private final String petName;
+    private final String petAnimalType;
+    private final String petBreed;
+    private final String petSpritesDir;
+    private final State petState;
+    private final int petAge;
+    private final int happiness;
+    private final int hunger;
+    private final int thirst;
+    private final int health;
+    private final List<String> petLikes;
+    private final List<String> petDislikes;
+    private final List<String> petPersonalities;
+    private final List<String> petCannotHaves;
+
+    private final HashMap<String, List<Item>> shopItems;
+    private final HashMap<String, List<Integer>> shopQuantities;
+    private final HashMap<String, List<Integer>> shopPrices;
+
+    // REQUIRES: no other thread changes engine while the snapshot is taken
+    // EFFECTS: constructs a snapshot of the current state of engine
+    public GameSnapshot(GameEngine engine) {
+        Player player = engine.getPlayer();
+        Pet pet = engine.getPet();
+
+        ticksPassed = engine.getTicksPassed();
+        secondsPassed = engine.getSecondsPassed();
+        ended = engine.isEnded();
+
+        money = player.getMoney();
+        inventoryItems = Collections.unmodifiableList(player.getInventory());
+        inventoryCounts = Collections.unmodifiableList(player.getInventoryQuantity());
+
+        petName = pet.getName();
+        petAnimalType = pet.getAnimalType();
+        petBreed = pet.getBreed();
+        petSpritesDir = pet.getSpritesDir();
+        petState = pet.getState();
+        petAge = pet.getAge();
+        happiness = pet.getHappiness();
+        hunger = pet.getHunger();
+        thirst = pet.getThirst();
+        health = pet.getHealth();
+        petLikes = copyOf(pet.getLikes());
+        petDislikes = copyOf(pet.getDislikes());
+        petPersonalities = copyOf(pet.getPersonalities());
+        petCannotHaves = copyOf(pet.getCannotHaves());
+
+        shopItems = new HashMap<>();
+        shopQuantities = new HashMap<>();
+        shopPrices = new HashMap<>();
+        for (Shop shop : engine.getShops()) {
+            shopItems.put(shop.getShopName(), Collections.unmodifiableList(shop.getShopItems()));
+            shopQuantities.put(shop.getShopName(), Collections.unmodifiableList(shop.getQuantityInStock()));
+            shopPrices.put(shop.getShopName(), Collections.unmodifiableList(shop.getPriceOfItems()));
+        }
+    }
+
+    // EFFECTS: returns an unmodifiable copy of strings
+    private static List<String> copyOf(List<String> strings) {
+        return Collections.unmodifiableList(new ArrayList<>(strings));
+    }
+
+    // EFFECTS: returns the items sold by the shop with shopName, or an empty list if there is no such shop
+    public List<Item> getShopItems(String shopName) {
+        return shopItems.getOrDefault(shopName, Collections.emptyList());
+    }
+
+    // EFFECTS: returns how many of each item the shop with shopName has in stock,
+    //          or an empty list if there is no such shop
+    public List<Integer> getShopQuantities(String shopName) {
+        return shopQuantities.getOrDefault(shopName, Collections.emptyList());
+    }
+
+    // EFFECTS: returns the price the shop with shopName sells each of its items for,
+    //          or an empty list if there is no such shop
+    public List<Integer> getShopPrices(String shopName) {
+        return shopPrices.getOrDefault(shopName, Collections.emptyList());
+    }
+
+    // GETTERS
+    public int getTicksPassed() {
+        return ticksPassed;
+    }
+
+    public int getSecondsPassed() {
+        return secondsPassed;
+    }
+
+    public boolean isEnded() {
+        return ended;
+    }
+
+    public int getMoney() {
+        return money;
+    }
+
+    public List<Item> getInventoryItems() {
+        return inventoryItems;
+    }
+
+    public List<Integer> getInventoryCounts() {
+        return inventoryCounts;
+    }
+
+    public String getPetName() {
+        return petName;
+    }
+
+    public String getPetAnimalType() {
+        return petAnimalType;
+    }
+
+    public String getPetBreed() {
+        return petBreed;
+    }
+
+    public String getPetSpritesDir() {
+        return petSpritesDir;
+    }
+
+    public State getPetState() {
+        return petState;
+    }
+
+    public int getPetAge() {
+        return petAge;
+    }
+
+    public int getHappiness() {
+        return happiness;
+    }
+
+    public int getHunger() {
+        return hunger;
+    }
+
+    public int getThirst() {
+        return thirst;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public List<String> getPetLikes() {
+        return petLikes;
+    }
+
+    public List<String> getPetDislikes() {
+        return petDislikes;
+    }
+
+    public List<String> getPetPersonalities() {
+        return petPersonalities;
+    }
+
+    public List<String> getPetCannotHaves() {
+        return petCannotHaves;
+    }
+}
@@ -0,0 +1,156 @@
+package model;
+
+import model.goodsandservices.Item;
+import model.goodsandservices.ItemSlotMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// represents the items a player holds and how many of each, in the order they were first added;
+// items and counts are kept in parallel slot arrays with an ItemSlotMap from each item's id to its slot,
+// so adding, removing and counting an item are O(1); an item whose count reaches 0 leaves an empty
+// slot behind so the order of the rest is kept, and the slots are compacted once most of them are empty
+public class Inventory {
+    private static final int INITIAL_SLOTS = 8;
+
+    private Item[] items;
+    private int[] counts;
+    private int usedSlots;
+    private int size;
+    private final ItemSlotMap slots;
+
+    // EFFECTS: constructs an empty inventory
+    public Inventory() {
+        items = new Item[INITIAL_SLOTS];
+        counts = new int[INITIAL_SLOTS];
+        usedSlots = 0;
+        size = 0;
+        slots = new ItemSlotMap();
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  adds quantity of item, placing it after every other item if it is not held yet
+    public void add(Item item, int quantity) {
+        int slot = slots.get(item.getId());
+
+        if (slot >= 0) {
+            counts[slot] += quantity;
+        } else {
+            ensureSlots(usedSlots + 1);
+            items[usedSlots] = item;
+            counts[usedSlots] = quantity;
+            slots.put(item.getId(), usedSlots);
+            usedSlots++;
+            size++;
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: item is held, and 0 < quantity <= getCount(item)
+    // EFFECTS:  removes quantity of item, removing item completely if its count reaches 0
+    public void remove(Item item, int quantity) {
+        int slot = slots.get(item.getId());
+        counts[slot] -= quantity;
+
+        if (counts[slot] == 0) {
+            items[slot] = null;
+            slots.remove(item.getId());
+            size--;
+
+            if (usedSlots - size > size) {
+                compact();
+            }
+        }
+    }
+
+    // EFFECTS: returns how many of item are held
+    public int getCount(Item item) {
+        int slot = slots.get(item.getId());
+        return (slot >= 0) ? counts[slot] : 0;
+    }
+
+    // EFFECTS: returns true if any of item is held
+    public boolean contains(Item item) {
+        return slots.get(item.getId()) >= 0;
+    }
+
+    // EFFECTS: returns the number of different items held
+    public int size() {
+        return size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  moves every held item into the first slots, keeping their order
+    private void compact() {
+        int next = 0;
+
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (items[slot] != null) {
+                items[next] = items[slot];
+                counts[next] = counts[slot];
+                slots.put(items[next].getId(), next);
+                next++;
+            }
+        }
+        Arrays.fill(items, next, usedSlots, null);
+        usedSlots = next;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  grows the slot arrays so that they have at least count slots
+    private void ensureSlots(int count) {
+        if (count > items.length) {
+            int newLength = Math.max(count, items.length * 2);
+            items = Arrays.copyOf(items, newLength);
+            counts = Arrays.copyOf(counts, newLength);
+        }
+    }
+
+    // GETTERS
+    // the lists below are copies in the order the items were first added
+    public ArrayList<Item> getItems() {
+        ArrayList<Item> held = new ArrayList<>(size);
+
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (items[slot] != null) {
+                held.add(items[slot]);
+            }
+        }
+        return held;
+    }
+
+    public ArrayList<Integer> getCounts() {
+        ArrayList<Integer> held = new ArrayList<>(size);
+
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (items[slot] != null) {
+                held.add(counts[slot]);
+            }
+        }
+        return held;
+    }
+
+    // SETTERS
+    // items must be set before counts, which must have the same number of entries
+    public void setItems(ArrayList<Item> newItems) {
+        int newSize = newItems.size();
+        ensureSlots(newSize);
+        Arrays.fill(items, null);
+        Arrays.fill(counts, 0);
+        slots.clear();
+
+        for (int slot = 0; slot < newSize; slot++) {
+            items[slot] = newItems.get(slot);
+            slots.put(items[slot].getId(), slot);
+        }
+        usedSlots = newSize;
+        size = newSize;
+    }
+
+    public void setCounts(ArrayList<Integer> newCounts) {
+        for (int slot = 0; slot < usedSlots; slot++) {
+            counts[slot] = newCounts.get(slot);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package model;
+
+import java.util.Arrays;
+
+// represents every change to a player's money, in the order they happened, with the balance as their running total;
+// each entry is a game tick, a change in money, a reason and the balance after it, stored in fixed-size chunks of
+// primitive columns, so appending writes four array slots and the balance before any entry is a single read;
+// entries are never changed once appended; to keep the ledger bounded, once it holds maxChunks full chunks the
+// oldest one is dropped and folded into a checkpoint of the balance and tick of its last entry, and its columns
+// are reused for the next chunk, so sums are exact for ticks after the checkpoint tick and earlier ticks are
+// answered as of the checkpoint; the ledger is not saved, so its history covers only the current run, and a loaded
+// game's ledger starts with adjustments that bring the balance to its saved money
+public class MoneyLedger {
+    public static final int CHUNK_SIZE = 1024;
+    public static final int DEFAULT_MAX_CHUNKS = 8;
+
+    private static final MoneyReason[] REASONS = MoneyReason.values();
+    private static final int INITIAL_CHUNKS = 4;
+
+    private final int maxChunks;
+    private long[][] ticks;
+    private int[][] deltas;
+    private byte[][] reasons;
+    private long[][] balances;
+    private int size;
+    private long compacted;
+
+    private long checkpointBalance;
+    private long checkpointTick;
+    private long balance;
+    private long now;
+
+    // EFFECTS: constructs an empty ledger with a balance of 0 at tick 0 that keeps up to DEFAULT_MAX_CHUNKS chunks
+    public MoneyLedger() {
+        this(DEFAULT_MAX_CHUNKS);
+    }
+
+    // REQUIRES: maxChunks >= 2
+    // EFFECTS: constructs an empty ledger with a balance of 0 at tick 0 that keeps up to maxChunks chunks
+    public MoneyLedger(int maxChunks) {
+        this.maxChunks = maxChunks;
+        int chunks = Math.min(INITIAL_CHUNKS, maxChunks);
+        ticks = new long[chunks][];
+        deltas = new int[chunks][];
+        reasons = new byte[chunks][];
+        balances = new long[chunks][];
+        size = 0;
+        compacted = 0;
+        checkpointBalance = 0;
+        checkpointTick = 0;
+        balance = 0;
+        now = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  moves the ledger to game tick tick, which later entries are recorded at;
+    //           the ledger never moves back, so entries stay in the order of their ticks
+    public void advanceTo(long tick) {
+        now = Math.max(now, tick);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  records a change of delta to the balance for reason at the current tick
+    public void append(int delta, MoneyReason reason) {
+        int chunk = size / CHUNK_SIZE;
+        int index = size % CHUNK_SIZE;
+
+        if (index == 0) {
+            if (chunk == maxChunks) {
+                compactOldestChunk();
+                chunk--;
+            }
+            addChunk(chunk);
+        }
+        balance += delta;
+        ticks[chunk][index] = now;
+        deltas[chunk][index] = delta;
+        reasons[chunk][index] = (byte) reason.ordinal();
+        balances[chunk][index] = balance;
+        size++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds an empty chunk at index chunk, reusing the columns of a dropped chunk if there are any
+    private void addChunk(int chunk) {
+        if (chunk == ticks.length) {
+            int newLength = Math.min(ticks.length * 2, maxChunks);
+            ticks = Arrays.copyOf(ticks, newLength);
+            deltas = Arrays.copyOf(deltas, newLength);
+            reasons = Arrays.copyOf(reasons, newLength);
+            balances = Arrays.copyOf(balances, newLength);
+        }
+        if (ticks[chunk] == null) {
+            ticks[chunk] = new long[CHUNK_SIZE];
+            deltas[chunk] = new int[CHUNK_SIZE];
+            reasons[chunk] = new byte[CHUNK_SIZE];
+            balances[chunk] = new long[CHUNK_SIZE];
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: every chunk is full
+    // EFFECTS:  drops the oldest chunk, moving the checkpoint to its last entry, and moves its columns
+    //           to the end to be reused by the next chunk
+    private void compactOldestChunk() {
+        checkpointBalance = balances[0][CHUNK_SIZE - 1];
+        checkpointTick = ticks[0][CHUNK_SIZE - 1];
+        rotate(ticks);
+        rotate(deltas);
+        rotate(reasons);
+        rotate(balances);
+        size -= CHUNK_SIZE;
+        compacted += CHUNK_SIZE;
+    }
+
+    // MODIFIES: chunks
+    // EFFECTS:  moves every chunk down by one index and the first chunk to the end
+    private static <T> void rotate(T[] chunks) {
+        T first = chunks[0];
+        System.arraycopy(chunks, 1, chunks, 0, chunks.length - 1);
+        chunks[chunks.length - 1] = first;
+    }
+
+    // EFFECTS: returns the total change of the entries recorded at ticks from fromTick up to but not including
+    //          toTick, with ticks up to the checkpoint tick answered as of the checkpoint
+    public long sumBetween(long fromTick, long toTick) {
+        if (fromTick >= toTick) {
+            return 0;
+        }
+        return balanceBefore(toTick) - balanceBefore(fromTick);
+    }
+
+    // EFFECTS: returns what the balance was once every entry before toTick had been recorded,
+    //          or the checkpoint balance if toTick is at or before the checkpoint tick
+    public long balanceBefore(long toTick) {
+        return balanceAfterFirst(countBefore(toTick));
+    }
+
+    // EFFECTS: returns the number of kept entries recorded before tick
+    private int countBefore(long tick) {
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ticks[middle / CHUNK_SIZE][middle % CHUNK_SIZE] < tick) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // EFFECTS: returns the balance once the first count kept entries had been recorded
+    private long balanceAfterFirst(int count) {
+        if (count == 0) {
+            return checkpointBalance;
+        }
+        return balances[(count - 1) / CHUNK_SIZE][(count - 1) % CHUNK_SIZE];
+    }
+
+    // EFFECTS: returns the number of kept entries
+    public int size() {
+        return size;
+    }
+
+    // REQUIRES: 0 <= entry < size()
+    // EFFECTS: returns the tick the kept entry was recorded at
+    public long getTick(int entry) {
+        return ticks[entry / CHUNK_SIZE][entry % CHUNK_SIZE];
+    }
+
+    // REQUIRES: 0 <= entry < size()
+    // EFFECTS: returns the change to the balance of the kept entry
+    public int getDelta(int entry) {
+        return deltas[entry / CHUNK_SIZE][entry % CHUNK_SIZE];
+    }
+
+    // REQUIRES: 0 <= entry < size()
+    // EFFECTS: returns the reason of the kept entry
+    public MoneyReason getReason(int entry) {
+        return REASONS[reasons[entry / CHUNK_SIZE][entry % CHUNK_SIZE]];
+    }
+
+    // GETTERS
+    public long getBalance() {
+        return balance;
+    }
+
+    public long getNow() {
+        return now;
+    }
+
+    // the balance and tick of the last entry folded into the checkpoint, or 0 and 0 if none has been
+    public long getCheckpointBalance() {
+        return checkpointBalance;
+    }
+
+    public long getCheckpointTick() {
+        return checkpointTick;
+    }
+
+    // the number of entries that have been folded into the checkpoint
+    public long getCompacted() {
+        return compacted;
+    }
+}
@@ -0,0 +1,8 @@
+package model;
+
+// represents the reasons a player's money can change
+public enum MoneyReason {
+    ADJUSTMENT,
+    INCOME,
+    PURCHASE
+}
@@ -2,6 +2,7 @@ package model;
 
 import java.util.ArrayList;
 
+import model.goodsandservices.Cart;
 import model.goodsandservices.Item;
 import model.goodsandservices.Shop;
 import model.logger.Event;
@@ -13,48 +14,39 @@ import org.json.JSONObject;
 
 import static model.persistence.ConverterJsonArrays.*;
 
-// represents a player
+// represents a player; what the player does is logged to an event log of their own game session,
+// which keeps only the latest MAX_LOGGED_EVENTS events in case nobody drains it
 public class Player implements Writable {
-    private final EventLog eventLog = EventLog.getInstance();
+    public static final int MAX_LOGGED_EVENTS = 1000;
 
-    private int money;
+    private final EventLog eventLog = new EventLog(MAX_LOGGED_EVENTS);
+
+    private final MoneyLedger ledger;
     private String playerName;
-    private ArrayList<Item> inventory;
-    private ArrayList<Integer> inventoryQuantity;
+    private final Inventory inventory;
 
     // EFFECTS: constructs a default player
     public Player() {
-        this.money = 5000;
+        this.ledger = new MoneyLedger();
+        this.ledger.append(5000, MoneyReason.ADJUSTMENT);
         this.playerName = "Player";
-        this.inventory = new ArrayList<>();
-        this.inventoryQuantity = new ArrayList<>();
+        this.inventory = new Inventory();
+    }
+
+    // MODIFIES: this
+    // REQUIRES: amount >= 0
+    // EFFECTS:  adds amount to the player's money as income
+    public void earnMoney(int amount) {
+        ledger.append(amount, MoneyReason.INCOME);
     }
 
     // MODIFIES: this
     // REQUIRES: quantity > 0
     // EFFECTS: adds a quantity number of item to the inventory
     public void addToInventory(Item item, int quantity) {
-        String itemName = item.getName();
-        String itemType = item.getType();
-        boolean isInInventory = false;
-        int itemIndex = -1;
-
-        for (int i = 0; i < inventory.size(); i++) {
-            Item invItem = inventory.get(i);
-            if (invItem.getName().equals(itemName) && invItem.getType().equals(itemType)) {
-                isInInventory = true;
-                itemIndex = i;
-            }
-        }
-
-        if (!isInInventory) {
-            inventory.add(item);
-            inventoryQuantity.add(quantity);
-        } else {
-            inventoryQuantity.set(itemIndex, inventoryQuantity.get(itemIndex) + quantity);
-        }
+        inventory.add(item, quantity);
 
-        eventLog.logEvent(new Event("Added " + itemName
+        eventLog.logEvent(new Event("Added " + item.getName()
                 + " (x" + quantity + ") to inventory."));
     }
 
@@ -64,15 +56,7 @@ public class Player implements Writable {
     // EFFECTS: removes a quantity number of item from the inventory
     //          removes item completely if inventory's quantity reaches 0
     public void removeFromInventory(Item item, int quantity) {
-        int itemIndex = inventory.indexOf(item);
-        int newQuantity = inventoryQuantity.get(itemIndex) - quantity;
-
-        if (newQuantity != 0) {
-            inventoryQuantity.set(itemIndex, newQuantity);
-        } else {
-            inventoryQuantity.remove(itemIndex);
-            inventory.remove(itemIndex);
-        }
+        inventory.remove(item, quantity);
 
         eventLog.logEvent(new Event("Removed " + item.getName()
                 + " (x" + quantity + ") from inventory."));
@@ -84,16 +68,12 @@ public class Player implements Writable {
     //          gives that quantity of item for pet to consume
     //          returns true if given successfully
     public boolean giveItemTo(Item item, Pet pet, int quantity) {
-        int itemQuantityInInventory = inventoryQuantity.get(inventory.indexOf(item));
-
-        if (itemQuantityInInventory >= quantity) {
+        if (inventory.getCount(item) >= quantity) {
             eventLog.logEvent(new Event("Gave " + item.getName()
                     + " (x" + quantity + ") to " + pet.getName() + "."));
             removeFromInventory(item, quantity);
 
-            for (int i = 0; i < quantity; i++) {
-                pet.consumeItem(item);
-            }
+            pet.consumeItems(item, quantity);
 
             return true;
         } else {
@@ -109,29 +89,66 @@ public class Player implements Writable {
     public boolean buyItemFrom(Item item, int quantity, Shop shop) {
         int price = shop.getItemPrice(item) * quantity;
 
-        if (money >= price && shop.getItemQuantity(item) >= quantity) {
-            money -= price;
+        if (getMoney() >= price && shop.takeFromStock(item, quantity)) {
+            ledger.append(-price, MoneyReason.PURCHASE);
             eventLog.logEvent(new Event("Bought " + item.getName()
                     + " (x" + quantity + ") from " + shop.getShopName() + "."));
             addToInventory(item, quantity);
-            shop.changeItemQuantity(item, -quantity);
+            shop.recordPurchase(item, quantity);
             return true;
         } else {
             return false;
         }
     }
 
+    // MODIFIES: this, Shop
+    // EFFECTS:  buys everything in cart from shop at once; if shop has every item of cart in stock
+    //           and the player can afford all of it, spends the total price, places every item in
+    //           inventory, decreases shop's stock, logs one event for the whole cart and returns true;
+    //           otherwise changes nothing and returns false
+    public boolean buyItemsFrom(Cart cart, Shop shop) {
+        long totalPrice = priceOfCart(cart, shop);
+
+        if (cart.isEmpty() || totalPrice < 0 || totalPrice > getMoney() || !shop.takeFromStock(cart)) {
+            return false;
+        }
+
+        ledger.append((int) -totalPrice, MoneyReason.PURCHASE);
+        for (int i = 0; i < cart.size(); i++) {
+            inventory.add(cart.getItem(i), cart.getQuantity(i));
+            shop.recordPurchase(cart.getItem(i), cart.getQuantity(i));
+        }
+
+        eventLog.logEvent(new Event("Bought " + cart.size() + " kinds of items (x" + cart.getTotalQuantity()
+                + ") from " + shop.getShopName() + " for $" + totalPrice + "."));
+        return true;
+    }
+
+    // EFFECTS: returns the total price of cart at shop, or -1 if shop does not sell all of it
+    private static long priceOfCart(Cart cart, Shop shop) {
+        long totalPrice = 0;
+
+        for (int i = 0; i < cart.size(); i++) {
+            Item item = cart.getItem(i);
+            if (!shop.checkIsInShop(item)) {
+                return -1;
+            }
+            totalPrice += (long) shop.getItemPrice(item) * cart.getQuantity(i);
+        }
+        return totalPrice;
+    }
+
     // EFFECTS: converts all player data to a JSONObject and returns it
     @Override
     public JSONObject toJsonObj() {
         JSONObject playerObject = new JSONObject();
 
         JSONObject inventory = new JSONObject();
-        inventory.put("quantities", arrayListIntToJson(inventoryQuantity));
-        inventory.put("items", arrayListItemToJson(this.inventory));
+        inventory.put("quantities", arrayListIntToJson(this.inventory.getCounts()));
+        inventory.put("items", arrayListItemToJson(this.inventory.getItems()));
 
         playerObject.put("inventory", inventory);
-        playerObject.put("money", money);
+        playerObject.put("money", getMoney());
         playerObject.put("name", playerName);
 
         return playerObject;
@@ -139,24 +156,40 @@ public class Player implements Writable {
 
     // GETTERS
     public int getMoney() {
-        return money;
+        return (int) ledger.getBalance();
+    }
+
+    public MoneyLedger getLedger() {
+        return ledger;
+    }
+
+    public EventLog getEventLog() {
+        return eventLog;
     }
 
     public String getPlayerName() {
         return playerName;
     }
 
+    // the inventory lists below are copies in the order the items were first added
     public ArrayList<Item> getInventory() {
-        return inventory;
+        return inventory.getItems();
     }
 
     public ArrayList<Integer> getInventoryQuantity() {
-        return inventoryQuantity;
+        return inventory.getCounts();
+    }
+
+    public int getInventoryCount(Item item) {
+        return inventory.getCount(item);
     }
 
     // SETTERS
+    // the change to money is recorded in the ledger as an adjustment
     public void setMoney(int money) {
-        this.money = money;
+        if (money != getMoney()) {
+            ledger.append(money - getMoney(), MoneyReason.ADJUSTMENT);
+        }
     }
 
     public void setPlayerName(String playerName) {
@@ -164,10 +197,10 @@ public class Player implements Writable {
     }
 
     public void setInventory(ArrayList<Item> inventory) {
-        this.inventory = inventory;
+        this.inventory.setItems(inventory);
     }
 
     public void setInventoryQuantity(ArrayList<Integer> inventoryQuantity) {
-        this.inventoryQuantity = inventoryQuantity;
+        this.inventory.setCounts(inventoryQuantity);
     }
 }
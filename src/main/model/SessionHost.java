@@ -0,0 +1,194 @@
+package model;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import model.exceptions.CannotFindSessionIdException;
+import model.exceptions.SessionHostFullException;
+import model.goodsandservices.ConcurrentShop;
+import model.goodsandservices.PricingEngine;
+import model.goodsandservices.RestockPolicy;
+import model.logger.Event;
+
+// represents a host that runs many independent games in one process, split into shards that each run
+// their games on a thread of their own; a game stays on the shard that admitted it, and its session id
+// says which shard that is, so the host keeps no table of games and shards never lock against each other;
+// a game is admitted onto the least loaded shard with room for it, and leaves the host when it is evicted,
+// either on request or once no command has touched it for long enough;
+// every game on the host also shares one market, a ConcurrentShop that players on every shard buy from
+// at once, which the first shard restocks and reprices; a game only has the market while it is on the host
+public class SessionHost {
+    public static final long TICK_NANOS = 1000000000L / GameEngine.TICKS_PER_SECOND;
+    public static final int MAX_CATCH_UP_TICKS = 10 * GameEngine.TICKS_PER_SECOND;
+    public static final String MARKET_NAME = "Kira Kira Market";
+
+    private static final int MARKET_ITEMS = 8;
+    private static final int MARKET_ITEM_QUANTITY = 100;
+    private static final RestockPolicy MARKET_RESTOCK_POLICY = new RestockPolicy(120, 50, 2, 100);
+
+    private final ConcurrentShop market;
+    private final SessionShard[] shards;
+    private final AtomicLong rejected;
+
+    // REQUIRES: shardCount > 0, and maxSessionsPerShard > 0
+    // EFFECTS: constructs a stopped host with shardCount shards of up to maxSessionsPerShard games each, that
+    //          evicts any game no command has touched for idleEvictionTicks ticks and hands it to
+    //          evictionHandler on the thread of its shard, without the market
+    public SessionHost(int shardCount, int maxSessionsPerShard, long idleEvictionTicks,
+                       Consumer<GameEngine> evictionHandler) throws IOException {
+        market = new ConcurrentShop(MARKET_NAME);
+        market.stockWithRandomItems(MARKET_ITEMS, MARKET_ITEM_QUANTITY);
+        market.setPricingEngine(new PricingEngine(30, 300, 50, 0.8, 1.5));
+
+        shards = new SessionShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new SessionShard(i, shardCount, maxSessionsPerShard, TICK_NANOS, MAX_CATCH_UP_TICKS,
+                    idleEvictionTicks, engine -> evictionHandler.accept(leaveMarket(engine)));
+        }
+        shards[0].keepSharedShop(market, MARKET_RESTOCK_POLICY);
+        rejected = new AtomicLong();
+    }
+
+    // REQUIRES: maxSessionsPerShard > 0
+    // EFFECTS: constructs a stopped host with a shard for every available processor, each holding up to
+    //          maxSessionsPerShard games, that never evicts a game unless asked to
+    public SessionHost(int maxSessionsPerShard) throws IOException {
+        this(Runtime.getRuntime().availableProcessors(), maxSessionsPerShard, SessionShard.NEVER_EVICT,
+                engine -> { });
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  starts every shard running on its own thread
+    public void start() {
+        for (SessionShard shard : shards) {
+            shard.start();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stops every shard and waits for their threads to finish
+    public void stop() {
+        for (SessionShard shard : shards) {
+            shard.stop();
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: no other thread touches engine from now on
+    // EFFECTS:  admits engine onto the least loaded shard with room for it, giving it the market,
+    //           and returns its session id; throws SessionHostFullException if every shard is full
+    public long admit(GameEngine engine) throws SessionHostFullException {
+        while (true) {
+            SessionShard leastLoaded = shards[0];
+            for (SessionShard shard : shards) {
+                if (shard.getSessionCount() < leastLoaded.getSessionCount()) {
+                    leastLoaded = shard;
+                }
+            }
+
+            if (leastLoaded.getSessionCount() >= leastLoaded.getCapacity()) {
+                rejected.incrementAndGet();
+                throw new SessionHostFullException(getCapacity());
+            }
+            if (leastLoaded.reserve()) {
+                engine.addSharedShop(market);
+                return leastLoaded.admit(engine);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends the game with session id to be removed from the host, and returns a future that
+    //           completes with the game without the market, or with a CannotFindSessionIdException
+    //           if there is no such game
+    public CompletableFuture<GameEngine> evict(long id) {
+        return shardOf(id).evict(id).thenApply(this::leaveMarket);
+    }
+
+    // MODIFIES: engine
+    // REQUIRES: engine has left the host
+    // EFFECTS:  takes the market out of engine and returns engine
+    private GameEngine leaveMarket(GameEngine engine) {
+        if (engine.getShops().isShared(market)) {
+            engine.removeShop(MARKET_NAME);
+        }
+        return engine;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends command to be run on the game with session id by its shard, and returns a future that
+    //           completes with its result, or with a CannotFindSessionIdException if there is no such game
+    public <T> CompletableFuture<T> submit(long id, SimulationLoop.Command<T> command) {
+        return shardOf(id).submit(id, command);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends the events logged by the game with session id to be drained from its own log, and returns
+    //           a future that completes with them, or with a CannotFindSessionIdException if there is no such game
+    public CompletableFuture<List<Event>> drainEvents(long id) {
+        return shardOf(id).drainEvents(id);
+    }
+
+    // MODIFIES: this
+    // REQUIRES: the host is running
+    // EFFECTS:  runs command on the game with session id, waits for it and returns its result;
+    //           throws CannotFindSessionIdException if there is no such game, or what command throws
+    public <T> T call(long id, SimulationLoop.Command<T> command) throws IOException, CannotFindSessionIdException {
+        try {
+            return submit(id, command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CannotFindSessionIdException) {
+                throw (CannotFindSessionIdException) e.getCause();
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    // EFFECTS: returns the shard that runs, or ran, the game with session id
+    public SessionShard shardOf(long id) {
+        return shards[(int) Math.floorMod(id, (long) shards.length)];
+    }
+
+    // EFFECTS: returns the number of games the host runs across all its shards
+    public int getSessionCount() {
+        int count = 0;
+        for (SessionShard shard : shards) {
+            count += shard.getSessionCount();
+        }
+        return count;
+    }
+
+    // EFFECTS: returns the most games the host can run at once
+    public int getCapacity() {
+        int capacity = 0;
+        for (SessionShard shard : shards) {
+            capacity += shard.getCapacity();
+        }
+        return capacity;
+    }
+
+    // GETTERS
+    public ConcurrentShop getMarket() {
+        return market;
+    }
+
+    public SessionShard getShard(int index) {
+        return shards[index];
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    // the games that were turned away because every shard was full
+    public long getRejected() {
+        return rejected.get();
+    }
+}
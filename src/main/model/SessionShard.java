@@ -0,0 +1,438 @@
+package model;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import model.exceptions.CannotFindSessionIdException;
+import model.goodsandservices.RestockPolicy;
+import model.goodsandservices.RestockScheduler;
+import model.goodsandservices.Shop;
+import model.logger.Event;
+
+// represents one shard of a session host: a thread of its own that runs many games on one shared clock of
+// fixed ticks per wall-clock second; the shard keeps a queue of its games ordered by the tick of their next
+// event, so each wake-up only runs the games that have something due and an idle game costs nothing until
+// then; games are only ever touched by the shard's own thread, other threads send admissions, evictions and
+// commands to it through a lock-free inbox, so shards never lock against each other; every game logs its
+// events to a log of its own, which whoever runs the host drains; a shard can also keep a shop shared by
+// the games of every shard, restocking and repricing it on its own clock whenever it wakes up
+public class SessionShard implements Runnable {
+    public static final long NEVER_EVICT = Long.MAX_VALUE;
+
+    // represents a game run by the shard; offset is the shard tick at which the game was at its tick 0
+    private static class Session {
+        private final long id;
+        private final GameEngine engine;
+        private final long offset;
+        private long lastTouched;
+        private long dueTick;
+
+        private Session(long id, GameEngine engine, long offset, long lastTouched) {
+            this.id = id;
+            this.engine = engine;
+            this.offset = offset;
+            this.lastTouched = lastTouched;
+        }
+    }
+
+    // represents a wake-up of a session at shard tick tick; it is stale once the session is due at another tick
+    private static class WakeUp implements Comparable<WakeUp> {
+        private final long tick;
+        private final Session session;
+
+        private WakeUp(long tick, Session session) {
+            this.tick = tick;
+            this.session = session;
+        }
+
+        @Override
+        public int compareTo(WakeUp other) {
+            return Long.compare(tick, other.tick);
+        }
+    }
+
+    private final int index;
+    private final int shardCount;
+    private final int capacity;
+    private final long tickNanos;
+    private final int maxCatchUpTicks;
+    private final long idleEvictionTicks;
+    private final Consumer<GameEngine> evictionHandler;
+
+    private final HashMap<Long, Session> sessions;
+    private final PriorityQueue<WakeUp> wakeUps;
+    private final ConcurrentLinkedQueue<Runnable> inbox;
+    private final AtomicInteger reserved;
+    private final AtomicLong nextSequence;
+    private final RestockScheduler sharedShopRestocks;
+    private Shop sharedShop;
+
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    private long accumulatedNanos;
+    private volatile long ticks;
+    private volatile long ticksDropped;
+    private volatile long sessionRuns;
+    private volatile long commandsRun;
+    private volatile long wakeUpsRun;
+    private volatile long busyNanos;
+    private volatile long admitted;
+    private volatile long evicted;
+
+    // REQUIRES: 0 <= index < shardCount, capacity > 0, tickNanos > 0, maxCatchUpTicks > 0,
+    //           and idleEvictionTicks > 0
+    // EFFECTS: constructs a stopped, empty shard number index of shardCount that holds up to capacity games,
+    //          runs them one tick every tickNanos, and evicts any game no command has touched for
+    //          idleEvictionTicks ticks, handing it to evictionHandler
+    public SessionShard(int index, int shardCount, int capacity, long tickNanos, int maxCatchUpTicks,
+                        long idleEvictionTicks, Consumer<GameEngine> evictionHandler) {
+        this.index = index;
+        this.shardCount = shardCount;
+        this.capacity = capacity;
+        this.tickNanos = tickNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.idleEvictionTicks = idleEvictionTicks;
+        this.evictionHandler = evictionHandler;
+        this.sessions = new HashMap<>();
+        this.wakeUps = new PriorityQueue<>();
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.reserved = new AtomicInteger();
+        this.nextSequence = new AtomicLong();
+        this.sharedShopRestocks = new RestockScheduler();
+    }
+
+    // MODIFIES: this
+    // REQUIRES: the shard is stopped
+    // EFFECTS:  makes the shard restock shop by policy and reprice it from its current tick, counting a
+    //           game second for every GameEngine.TICKS_PER_SECOND ticks; the shard does this whenever it
+    //           wakes up, which is at least once every maxCatchUpTicks ticks
+    public void keepSharedShop(Shop shop, RestockPolicy policy) {
+        sharedShop = shop;
+        sharedShopRestocks.schedule(shop, policy, ticks / GameEngine.TICKS_PER_SECOND);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  starts running the shard on a new daemon thread, unless it is already running
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "simulation-shard-" + index);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stops running the shard and waits for its thread to finish,
+    //           then runs anything still waiting in the inbox on the calling thread
+    public synchronized void stop() {
+        Thread stopping = thread;
+        if (stopping == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(stopping);
+        try {
+            stopping.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        runInbox();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  runs the shard in real time until stopped, parking until its next due game or the next
+    //           message in the inbox, but never for longer than maxCatchUpTicks ticks
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            advanceBy(now - previous);
+            previous = now;
+            wakeUpsRun++;
+            busyNanos += System.nanoTime() - now;
+
+            if (inbox.isEmpty()) {
+                LockSupport.parkNanos(this, nanosUntilNextWakeUp());
+            }
+        }
+    }
+
+    // REQUIRES: called only by the shard's thread, or by one thread while the shard is stopped
+    // EFFECTS:  returns the wall-clock time until the next game is due, at most maxCatchUpTicks ticks;
+    //           this is how long the shard's thread parks for when nothing is waiting in the inbox
+    public long nanosUntilNextWakeUp() {
+        WakeUp next = wakeUps.peek();
+        long ticksUntil = (next == null) ? maxCatchUpTicks : Math.min(next.tick - ticks, maxCatchUpTicks);
+        return ticksUntil * tickNanos - accumulatedNanos;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: called only by the shard's thread, or by one thread while the shard is stopped
+    // EFFECTS:  adds nanos of wall-clock time to the accumulator and moves the shard's clock on by a tick
+    //           for every tickNanos in it, dropping whatever is beyond maxCatchUpTicks ticks; then runs every
+    //           game that came due up to the new tick and everything waiting in the inbox, and returns the
+    //           number of ticks the clock moved on
+    public int advanceBy(long nanos) {
+        accumulatedNanos += nanos;
+
+        long due = accumulatedNanos / tickNanos;
+        if (due > maxCatchUpTicks) {
+            ticksDropped += due - maxCatchUpTicks;
+            due = maxCatchUpTicks;
+        }
+        accumulatedNanos %= tickNanos;
+        ticks += due;
+
+        catchUpSharedShop();
+        runDueSessions();
+        runInbox();
+        return (int) due;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  restocks and reprices once the shared shop the shard keeps, if it keeps one and it is due
+    private void catchUpSharedShop() {
+        if (sharedShop != null) {
+            long seconds = ticks / GameEngine.TICKS_PER_SECOND;
+            sharedShopRestocks.catchUp(seconds);
+            sharedShop.advancePricing(seconds);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  runs every game whose wake-up is due by the current tick, skipping stale wake-ups
+    private void runDueSessions() {
+        WakeUp next = wakeUps.peek();
+
+        while (next != null && next.tick <= ticks) {
+            wakeUps.poll();
+            Session session = next.session;
+            if (session.dueTick == next.tick) {
+                if (ticks - session.lastTouched >= idleEvictionTicks) {
+                    evictionHandler.accept(evictSession(session));
+                } else {
+                    catchUp(session);
+                    schedule(session);
+                }
+            }
+            next = wakeUps.peek();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  runs everything waiting in the inbox in the order it was sent
+    private void runInbox() {
+        Runnable message = inbox.poll();
+
+        while (message != null) {
+            message.run();
+            message = inbox.poll();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  brings the game of session up to the current tick
+    private void catchUp(Session session) {
+        session.engine.advanceTo(ticks - session.offset);
+        sessionRuns++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  queues a wake-up for session at the tick of its game's next event or the tick it becomes
+    //           idle for long enough to be evicted, whichever comes first, but always after the current tick
+    private void schedule(Session session) {
+        long nextEvent = session.engine.getNextEventTick();
+        long due = (nextEvent == GameEngine.NO_EVENT) ? GameEngine.NO_EVENT : nextEvent + session.offset;
+
+        if (idleEvictionTicks != NEVER_EVICT) {
+            due = Math.min(due, session.lastTouched + idleEvictionTicks);
+        }
+        session.dueTick = Math.max(due, ticks + 1);
+        if (due != GameEngine.NO_EVENT) {
+            wakeUps.add(new WakeUp(session.dueTick, session));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  brings the game of session up to the current tick, removes it from the shard, and returns it
+    private GameEngine evictSession(Session session) {
+        catchUp(session);
+        sessions.remove(session.id);
+        session.dueTick = GameEngine.NO_EVENT;
+        reserved.decrementAndGet();
+        evicted++;
+        return session.engine;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  takes one of the shard's places for a game and returns true, or returns false if it is full;
+    //           safe to call from any thread
+    public boolean reserve() {
+        int current = reserved.get();
+
+        while (current < capacity) {
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = reserved.get();
+        }
+        return false;
+    }
+
+    // MODIFIES: this, engine
+    // REQUIRES: a place was taken for engine by reserve, and no other thread touches engine from now on
+    // EFFECTS:  gives engine its session id, which is unique across all shardCount shards and tells which
+    //           shard runs it, sends engine to be run by the shard from its current tick, and returns the id
+    public long admit(GameEngine engine) {
+        long id = nextSequence.getAndIncrement() * shardCount + index;
+        engine.setSessionId(id);
+
+        send(() -> {
+            Session session = new Session(id, engine, ticks - engine.getTicksPassed(), ticks);
+            sessions.put(id, session);
+            schedule(session);
+            admitted++;
+        });
+        return id;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends command to be run on the game with session id once the shard has caught it up, and
+    //           returns a future that completes with its result, or with a CannotFindSessionIdException if
+    //           the shard has no such game; the game counts as touched, so it is not evicted as idle
+    public <T> CompletableFuture<T> submit(long id, SimulationLoop.Command<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        send(() -> {
+            Session session = sessions.get(id);
+            if (session == null) {
+                result.completeExceptionally(new CannotFindSessionIdException());
+                return;
+            }
+            catchUp(session);
+            session.lastTouched = ticks;
+            commandsRun++;
+            try {
+                result.complete(command.run(session.engine));
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+            schedule(session);
+        });
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends the game with session id to be caught up and removed from the shard, and returns a
+    //           future that completes with the game, or with a CannotFindSessionIdException if there is none
+    public CompletableFuture<GameEngine> evict(long id) {
+        CompletableFuture<GameEngine> result = new CompletableFuture<>();
+
+        send(() -> {
+            Session session = sessions.get(id);
+            if (session == null) {
+                result.completeExceptionally(new CannotFindSessionIdException());
+            } else {
+                result.complete(evictSession(session));
+            }
+        });
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends the events logged by the game with session id to be drained from its log, and returns
+    //           a future that completes with them in the order they were logged, or with a
+    //           CannotFindSessionIdException if there is no such game; the game does not count as touched
+    public CompletableFuture<List<Event>> drainEvents(long id) {
+        CompletableFuture<List<Event>> result = new CompletableFuture<>();
+
+        send(() -> {
+            Session session = sessions.get(id);
+            if (session == null) {
+                result.completeExceptionally(new CannotFindSessionIdException());
+            } else {
+                result.complete(session.engine.getPlayer().getEventLog().drain());
+            }
+        });
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds message to the inbox and wakes the shard's thread up to run it
+    private void send(Runnable message) {
+        inbox.add(message);
+        Thread shardThread = thread;
+        if (shardThread != null) {
+            LockSupport.unpark(shardThread);
+        }
+    }
+
+    // GETTERS
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    // the games the shard runs or has taken a place for
+    public int getSessionCount() {
+        return reserved.get();
+    }
+
+    // the ticks the shard's clock has moved on since it was constructed
+    public long getTicks() {
+        return ticks;
+    }
+
+    // the ticks that were due but dropped because there were more than maxCatchUpTicks at once
+    public long getTicksDropped() {
+        return ticksDropped;
+    }
+
+    // the number of times a game was brought up to the shard's clock
+    public long getSessionRuns() {
+        return sessionRuns;
+    }
+
+    public long getCommandsRun() {
+        return commandsRun;
+    }
+
+    // the number of times the shard's thread has woken up
+    public long getWakeUps() {
+        return wakeUpsRun;
+    }
+
+    // the wall-clock time the shard's thread has spent running games and its inbox rather than parked
+    public long getBusyNanos() {
+        return busyNanos;
+    }
+
+    public long getAdmitted() {
+        return admitted;
+    }
+
+    public long getEvicted() {
+        return evicted;
+    }
+}
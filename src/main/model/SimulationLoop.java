@@ -0,0 +1,224 @@
+package model;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+// represents a thread of its own that runs a game at a fixed number of ticks per wall-clock second;
+// the wall-clock time that passes is added to an accumulator and one tick is run for every tickNanos in it,
+// so a late wake-up is made up for by running the ticks it missed, up to maxCatchUpTicks at once, after
+// which the rest of the backlog is dropped and counted; other threads never touch the game directly, they
+// read the snapshot published after each batch of ticks and send changes as commands that the simulation
+// thread runs between ticks; between ticks the thread parks until the next tick the game has anything due at,
+// so an idle game wakes up a few times a game second instead of once a tick
+public class SimulationLoop implements Runnable {
+
+    // represents a change to, or a read of, a game that is run on its simulation thread
+    public interface Command<T> {
+        T run(GameEngine engine) throws IOException;
+    }
+
+    private final GameEngine engine;
+    private final long tickNanos;
+    private final int maxCatchUpTicks;
+    private final ConcurrentLinkedQueue<Runnable> commands;
+
+    private volatile Thread thread;
+    private volatile boolean running;
+    private volatile GameSnapshot snapshot;
+
+    private long accumulatedNanos;
+    private long elapsedNanos;
+    private volatile long ticksRun;
+    private volatile long ticksDropped;
+    private volatile long driftNanos;
+    private volatile long maxBacklogNanos;
+    private volatile long wakeUps;
+
+    // REQUIRES: tickNanos > 0, and maxCatchUpTicks > 0
+    // EFFECTS: constructs a stopped loop that runs engine one tick every tickNanos
+    public SimulationLoop(GameEngine engine, long tickNanos, int maxCatchUpTicks) {
+        this.engine = engine;
+        this.tickNanos = tickNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.commands = new ConcurrentLinkedQueue<>();
+        this.snapshot = new GameSnapshot(engine);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  starts running the game on a new daemon thread, unless it is already running
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stops running the game and waits for the simulation thread to finish,
+    //           then runs any commands that were still waiting on the calling thread
+    public synchronized void stop() {
+        Thread stopping = thread;
+        if (stopping == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(stopping);
+        try {
+            stopping.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        runCommands();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  runs the game in real time until stopped, parking until the game's next event
+    //           or the next command, but never for longer than maxCatchUpTicks ticks
+    @Override
+    public void run() {
+        long previous = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            advanceBy(now - previous);
+            previous = now;
+            wakeUps++;
+
+            if (commands.isEmpty()) {
+                LockSupport.parkNanos(this, nanosUntilNextEvent());
+            }
+        }
+    }
+
+    // REQUIRES: called only by the simulation thread, or by one thread while the loop is stopped
+    // EFFECTS:  returns the wall-clock time until the game's next event is due, at most maxCatchUpTicks ticks;
+    //           this is how long the simulation thread parks for when no command is waiting
+    public long nanosUntilNextEvent() {
+        long ticksUntilEvent = Math.min(engine.getNextEventTick() - engine.getTicksPassed(), maxCatchUpTicks);
+        return ticksUntilEvent * tickNanos - accumulatedNanos;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: called only by the simulation thread, or by one thread while the loop is stopped
+    // EFFECTS:  adds nanos of wall-clock time to the accumulator and runs a tick for every tickNanos in it,
+    //           dropping whatever is beyond maxCatchUpTicks ticks, then runs the waiting commands so they
+    //           see the game as of now; publishes a new snapshot if any ticks ran, and returns their number
+    public int advanceBy(long nanos) {
+        elapsedNanos += nanos;
+        accumulatedNanos += nanos;
+        maxBacklogNanos = Math.max(maxBacklogNanos, accumulatedNanos);
+
+        long due = accumulatedNanos / tickNanos;
+        if (due > maxCatchUpTicks) {
+            ticksDropped += due - maxCatchUpTicks;
+            due = maxCatchUpTicks;
+        }
+        accumulatedNanos %= tickNanos;
+
+        int ticks = engine.advance((int) due);
+        ticksRun += ticks;
+        driftNanos = elapsedNanos - ticksRun * tickNanos;
+        if (ticks > 0) {
+            snapshot = new GameSnapshot(engine);
+        }
+        runCommands();
+        return ticks;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  runs every waiting command in the order they were sent
+    private void runCommands() {
+        Runnable command = commands.poll();
+
+        while (command != null) {
+            command.run();
+            command = commands.poll();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sends command to be run on the simulation thread once it has caught up, and returns a future
+    //           that completes with its result once it has run and a snapshot of its changes is published
+    public <T> CompletableFuture<T> submit(Command<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        commands.add(() -> {
+            try {
+                T value = command.run(engine);
+                snapshot = new GameSnapshot(engine);
+                result.complete(value);
+            } catch (IOException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        Thread simulationThread = thread;
+        if (simulationThread != null) {
+            LockSupport.unpark(simulationThread);
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  runs command on the simulation thread, or on the calling thread if the loop is stopped,
+    //           waits for it and returns its result; throws what command throws
+    public <T> T call(Command<T> command) throws IOException {
+        if (thread == null) {
+            T value = command.run(engine);
+            snapshot = new GameSnapshot(engine);
+            return value;
+        }
+
+        try {
+            return submit(command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    // GETTERS
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public boolean isRunning() {
+        return thread != null;
+    }
+
+    public long getTicksRun() {
+        return ticksRun;
+    }
+
+    // the ticks that were due but dropped because there were more than maxCatchUpTicks at once
+    public long getTicksDropped() {
+        return ticksDropped;
+    }
+
+    // how far game time is behind the wall-clock time the loop has run for
+    public long getDriftNanos() {
+        return driftNanos;
+    }
+
+    // the number of times the simulation thread has woken up to run the game
+    public long getWakeUps() {
+        return wakeUps;
+    }
+
+    // the most wall-clock time that was waiting to be run as ticks at once
+    public long getMaxBacklogNanos() {
+        return maxBacklogNanos;
+    }
+}
@@ -18,6 +18,13 @@ public class FileLocations {
     public static final String itemsDir = dataDir + "Items.json";
     public static final String exampleBreedsDir = dataDir + "petBreeds/ExampleAnimalBreeds.json";
     public static final String dogBreedsDir = dataDir + "petBreeds/DogBreeds.json";
+    public static final String petBreedsDir = dataDir + "petBreeds/";
+
+    // COMPILED CATALOGS
+    public static final String compiledDir = dataDir + "compiled/";
+    public static final String compiledItemsDir = compiledDir + "Items.bin";
+    public static final String compiledExampleBreedsDir = compiledDir + "ExampleAnimalBreeds.bin";
+    public static final String compiledDogBreedsDir = compiledDir + "DogBreeds.bin";
 
     // GUI FILES
     public static final String gameIconDir = iconsDir + "PixelPet.png";
@@ -46,4 +53,14 @@ public class FileLocations {
             default: return exampleBreedsDir;
         }
     }
+
+    // GETTERS
+    // COMPILED FILES:
+    public static String getCompiledDir(String dataKey) {
+        switch (dataKey.toLowerCase().replaceAll("\\s+","")) {
+            case "item": return compiledItemsDir;
+            case "dog": return compiledDogBreedsDir;
+            default: return compiledExampleBreedsDir;
+        }
+    }
 }
@@ -5,6 +5,8 @@ import java.util.Random;
 
 // class for generating random probabilities for events
 public class RandomGenerator {
+    private final Random random = new Random();
+
 //    public static boolean randomResult(double accuracy) {
 //        return (Math.random() <= accuracy);
 //    }
@@ -28,9 +30,7 @@ public class RandomGenerator {
 
     // EFFECTS: returns a random number between 0 to high
     public int randomNumberUpTo(int high) {
-        Random r = new Random();
-
-        return r.nextInt(high);
+        return random.nextInt(high);
     }
 
 //    // EFFECTS: return the number of trues in a list of boolean values
@@ -0,0 +1,9 @@
+package model.exceptions;
+
+// exception class for session hosts with no room left
+public class SessionHostFullException extends Exception {
+    // EFFECTS: sends an exception if every shard of the host already has as many sessions as it can hold
+    public SessionHostFullException(int capacity) {
+        super("The host already has its limit of " + capacity + " sessions!");
+    }
+}
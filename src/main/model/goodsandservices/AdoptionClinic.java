@@ -1,16 +1,12 @@
 package model.goodsandservices;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 
 import model.configurables.FileLocations;
 import model.pets.*;
-import org.apache.commons.io.FileUtils;
-import org.json.JSONArray;
-import org.json.JSONObject;
 
-import static ui.app.PixelPetGame.ANIMALS_IN_ADOPTION_CLINIC;
+import static model.GameEngine.ANIMALS_IN_ADOPTION_CLINIC;
 
 // represents an adoption clinic where the player can adopt a pet
 public class AdoptionClinic {
@@ -33,19 +29,7 @@ public class AdoptionClinic {
 
     // EFFECTS: returns a list of breeds for the specified animalType
     public ArrayList<String> fetchBreeds(String animalType) throws IOException {
-        ArrayList<String> breeds = new ArrayList<>();
-
-        File breedsDataDir = new File(FileLocations.getDataDir(animalType));
-        String content = FileUtils.readFileToString(breedsDataDir, "utf-8");
-        JSONObject breedsJson = new JSONObject(content);
-        JSONArray breedsArray = breedsJson.getJSONArray("breeds");
-
-        for (int i = 0; i < breedsArray.length(); i++) {
-            JSONObject breedData = breedsArray.getJSONObject(i);
-            breeds.add(breedData.getString("breedName"));
-        }
-
-        return breeds;
+        return BreedRegistry.getInstance().getBreedNames(animalType);
     }
 
     // GETTERS
@@ -0,0 +1,85 @@
+package model.goodsandservices;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// represents the items a player is about to buy and how many of each, in the order they were added;
+// adding an item that is already in the cart adds to its quantity, so each item appears only once
+public class Cart {
+    private static final int INITIAL_SLOTS = 8;
+
+    private final ArrayList<Item> items;
+    private int[] quantities;
+    private final ItemSlotMap slots;
+
+    // EFFECTS: constructs an empty cart
+    public Cart() {
+        items = new ArrayList<>();
+        quantities = new int[INITIAL_SLOTS];
+        slots = new ItemSlotMap();
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  adds quantity of item to the cart and returns this cart
+    public Cart add(Item item, int quantity) {
+        int slot = slots.get(item.getId());
+
+        if (slot >= 0) {
+            quantities[slot] += quantity;
+        } else {
+            if (items.size() == quantities.length) {
+                quantities = Arrays.copyOf(quantities, quantities.length * 2);
+            }
+            slots.put(item.getId(), items.size());
+            quantities[items.size()] = quantity;
+            items.add(item);
+        }
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes every item from the cart
+    public void clear() {
+        items.clear();
+        slots.clear();
+    }
+
+    // EFFECTS: returns how many of item are in the cart
+    public int getQuantity(Item item) {
+        int slot = slots.get(item.getId());
+        return (slot >= 0) ? quantities[slot] : 0;
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // EFFECTS: returns the item at index, in the order items were added
+    public Item getItem(int index) {
+        return items.get(index);
+    }
+
+    // REQUIRES: 0 <= index < size()
+    // EFFECTS: returns the quantity of the item at index
+    public int getQuantity(int index) {
+        return quantities[index];
+    }
+
+    // EFFECTS: returns the total number of items in the cart
+    public int getTotalQuantity() {
+        int total = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            total += quantities[i];
+        }
+        return total;
+    }
+
+    // EFFECTS: returns the number of different items in the cart
+    public int size() {
+        return items.size();
+    }
+
+    // EFFECTS: returns true if the cart has no items
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,344 @@
+package model.goodsandservices;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static model.persistence.ConverterJsonArrays.*;
+
+// represents a shop that many players can buy from at once;
+// which items are sold, at what prices and in which slots is an immutable Layout published through a
+// volatile field, so buyers read it without taking any lock; every item has its own stock counter that
+// is taken with a compare-and-set, so two players can never both take the last of an item, and that
+// counter is carried over to every later layout, so a sale is never lost to a change of layout;
+// changes to which items are sold or their prices build a new layout under a lock that only writers take;
+// an item that sells out keeps its slot with 0 in stock instead of being removed
+public class ConcurrentShop extends Shop {
+
+    // represents the items of a shop, their prices and stock counters, in slot order; never changed once built
+    private static final class Layout {
+        private final Item[] items;
+        private final int[] prices;
+        private final AtomicInteger[] stock;
+        private final ItemSlotMap slots;
+
+        // EFFECTS: constructs a layout of items with their prices and stock counters
+        private Layout(Item[] items, int[] prices, AtomicInteger[] stock) {
+            this.items = items;
+            this.prices = prices;
+            this.stock = stock;
+            this.slots = new ItemSlotMap();
+            for (int slot = 0; slot < items.length; slot++) {
+                slots.put(items[slot].getId(), slot);
+            }
+        }
+
+        // EFFECTS: returns the stock counter of item, or null if item is not in the layout
+        private AtomicInteger stockOf(Item item) {
+            int slot = slots.get(item.getId());
+            return (slot < 0) ? null : stock[slot];
+        }
+    }
+
+    private static final Layout EMPTY = new Layout(new Item[0], new int[0], new AtomicInteger[0]);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Layout layout = EMPTY;
+
+    // EFFECTS: constructs a concurrent shop with a shopName
+    public ConcurrentShop(String shopName) throws IOException {
+        super(shopName);
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  if item is in shopItems with at least quantity in stock, atomically takes quantity
+    //           of it out of stock and returns true, otherwise changes nothing and returns false
+    @Override
+    public boolean takeFromStock(Item item, int quantity) {
+        AtomicInteger counter = layout.stockOf(item);
+        return counter != null && addToCounter(counter, -quantity);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  if every item of cart is in shopItems with enough in stock, takes all of cart
+    //           out of stock and returns true; otherwise puts back whatever was already taken
+    //           and returns false
+    @Override
+    public boolean takeFromStock(Cart cart) {
+        Layout current = layout;
+
+        for (int i = 0; i < cart.size(); i++) {
+            AtomicInteger counter = current.stockOf(cart.getItem(i));
+            if (counter == null || !addToCounter(counter, -cart.getQuantity(i))) {
+                for (int taken = 0; taken < i; taken++) {
+                    current.stockOf(cart.getItem(taken)).addAndGet(cart.getQuantity(taken));
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MODIFIES: counter
+    // EFFECTS:  atomically adds value to counter and returns true,
+    //           unless that would leave it below 0, in which case it returns false
+    private static boolean addToCounter(AtomicInteger counter, int value) {
+        while (true) {
+            int current = counter.get();
+            if (current + value < 0) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + value)) {
+                return true;
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  atomically adds value to the quantity of item in quantityInStock, unless that would
+    //           leave it below 0; keeps item in shopItems if its quantity becomes 0
+    @Override
+    public void changeItemQuantity(Item item, int value) {
+        AtomicInteger counter = layout.stockOf(item);
+        if (counter != null) {
+            addToCounter(counter, value);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sets the quantity of item in quantityInStock
+    @Override
+    public void setItemQuantity(Item item, int quantity) {
+        AtomicInteger counter = layout.stockOf(item);
+        if (counter != null) {
+            counter.set(quantity);
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  restocks all items in shopItems by quantity
+    @Override
+    public void stockAllExisting(int quantity) {
+        for (AtomicInteger counter : layout.stock) {
+            counter.addAndGet(quantity);
+        }
+    }
+
+    // EFFECTS: returns the quantity of item in stock, or 0 if item is not in shopItems
+    @Override
+    public int getItemQuantity(Item item) {
+        AtomicInteger counter = layout.stockOf(item);
+        return (counter == null) ? 0 : counter.get();
+    }
+
+    // REQUIRES: item is in shopItems
+    // EFFECTS: returns the price of item
+    @Override
+    public int getItemPrice(Item item) {
+        Layout current = layout;
+        return current.prices[current.slots.get(item.getId())];
+    }
+
+    @Override
+    public boolean checkIsInShop(Item item) {
+        return layout.slots.get(item.getId()) >= 0;
+    }
+
+    @Override
+    public int getShopItemCount() {
+        return layout.items.length;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds item to shopItems with quantity in stock, unless it is already sold
+    @Override
+    public void addShopItem(Item item, int quantity) {
+        writeLock.lock();
+        try {
+            Layout current = layout;
+            if (current.slots.get(item.getId()) < 0) {
+                int size = current.items.length;
+                Item[] items = Arrays.copyOf(current.items, size + 1);
+                int[] prices = Arrays.copyOf(current.prices, size + 1);
+                AtomicInteger[] stock = Arrays.copyOf(current.stock, size + 1);
+                items[size] = item;
+                prices[size] = item.getPrice();
+                stock[size] = new AtomicInteger(quantity);
+                layout = new Layout(items, prices, stock);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes item from shopItems, along with its price and stock
+    @Override
+    public void removeShopItem(Item item) {
+        writeLock.lock();
+        try {
+            Layout current = layout;
+            int slot = current.slots.get(item.getId());
+            if (slot >= 0) {
+                layout = new Layout(without(current.items, slot, new Item[current.items.length - 1]),
+                        withoutSlot(current.prices, slot),
+                        without(current.stock, slot, new AtomicInteger[current.stock.length - 1]));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // EFFECTS: returns column without the value in slot, copied into the shorter array into
+    private static <T> T[] without(T[] column, int slot, T[] into) {
+        System.arraycopy(column, 0, into, 0, slot);
+        System.arraycopy(column, slot + 1, into, slot, column.length - slot - 1);
+        return into;
+    }
+
+    // EFFECTS: returns column without the value in slot
+    private static int[] withoutSlot(int[] column, int slot) {
+        int[] into = new int[column.length - 1];
+        System.arraycopy(column, 0, into, 0, slot);
+        System.arraycopy(column, slot + 1, into, slot, column.length - slot - 1);
+        return into;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  changes the price of item in priceOfItems
+    @Override
+    public void setItemPrice(Item item, int price) {
+        writeLock.lock();
+        try {
+            Layout current = layout;
+            int slot = current.slots.get(item.getId());
+            if (slot >= 0) {
+                int[] prices = current.prices.clone();
+                prices[slot] = price;
+                layout = new Layout(current.items, prices, current.stock);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sets the price of every item in shopItems to its price from engine
+    @Override
+    public void reprice(PricingEngine engine) {
+        writeLock.lock();
+        try {
+            Layout current = layout;
+            int[] prices = new int[current.items.length];
+            engine.priceAll(current.items, prices, prices.length);
+            layout = new Layout(current.items, prices, current.stock);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds up to numItems random items of possibleItems that are not in shopItems to shopItems
+    //           with a given quantity, holding the writers' lock throughout
+    @Override
+    protected void stockWithRandomItemsOf(List<Item> possibleItems, int numItems, int quantity) {
+        writeLock.lock();
+        try {
+            super.stockWithRandomItemsOf(possibleItems, numItems, quantity);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // EFFECTS: converts all shop data, as of one layout, to a JSONObject and returns it
+    @Override
+    public JSONObject toJsonObj() {
+        Layout current = layout;
+        JSONObject shopObject = new JSONObject();
+
+        shopObject.put("items", arrayListItemToJson(new ArrayList<>(Arrays.asList(current.items))));
+        shopObject.put("quantities", arrayListIntToJson(quantitiesOf(current)));
+        shopObject.put("prices", arrayListIntToJson(pricesOf(current)));
+        shopObject.put("name", getShopName());
+        return shopObject;
+    }
+
+    // EFFECTS: returns the stock of every item in current, in slot order
+    private static ArrayList<Integer> quantitiesOf(Layout current) {
+        ArrayList<Integer> quantities = new ArrayList<>(current.stock.length);
+        for (AtomicInteger counter : current.stock) {
+            quantities.add(counter.get());
+        }
+        return quantities;
+    }
+
+    // EFFECTS: returns the price of every item in current, in slot order
+    private static ArrayList<Integer> pricesOf(Layout current) {
+        ArrayList<Integer> prices = new ArrayList<>(current.prices.length);
+        for (int price : current.prices) {
+            prices.add(price);
+        }
+        return prices;
+    }
+
+    @Override
+    public ArrayList<Item> getShopItems() {
+        return new ArrayList<>(Arrays.asList(layout.items));
+    }
+
+    @Override
+    public ArrayList<Integer> getPriceOfItems() {
+        return pricesOf(layout);
+    }
+
+    @Override
+    public ArrayList<Integer> getQuantityInStock() {
+        return quantitiesOf(layout);
+    }
+
+    // the setters below replace a column in slot order; shopItems must be set before
+    // priceOfItems and quantityInStock, which must have the same number of entries
+    @Override
+    public void setShopItems(ArrayList<Item> shopItems) {
+        writeLock.lock();
+        try {
+            AtomicInteger[] stock = new AtomicInteger[shopItems.size()];
+            for (int slot = 0; slot < stock.length; slot++) {
+                stock[slot] = new AtomicInteger();
+            }
+            layout = new Layout(shopItems.toArray(new Item[0]), new int[stock.length], stock);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void setPriceOfItems(ArrayList<Integer> priceOfItems) {
+        writeLock.lock();
+        try {
+            Layout current = layout;
+            int[] prices = new int[current.items.length];
+            for (int slot = 0; slot < prices.length; slot++) {
+                prices[slot] = priceOfItems.get(slot);
+            }
+            layout = new Layout(current.items, prices, current.stock);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void setQuantityInStock(ArrayList<Integer> quantityInStock) {
+        AtomicInteger[] stock = layout.stock;
+        for (int slot = 0; slot < stock.length; slot++) {
+            stock[slot].set(quantityInStock.get(slot));
+        }
+    }
+}
@@ -2,23 +2,23 @@ package model.goodsandservices;
 
 import model.configurables.FileLocations;
 import model.persistence.Writable;
-import org.apache.commons.io.FileUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.io.File;
 import java.io.IOException;
 
 // represents an item
 public class Item implements Writable {
-    private final FileLocations fileLoc = new FileLocations();
+    public static final int HAPPINESS = 0;
+    public static final int HUNGER = 1;
+    public static final int THIRST = 2;
+    public static final int HEALTH = 3;
+    public static final int CARE_STATS = 4;
 
     private final String dataKey = "Item";
-    private final String itemsDir = FileLocations.getDataDir(dataKey);
     private String spritesDir = FileLocations.getSpritesDir(dataKey);
-    private final File itemsDataDir = new File(itemsDir);
 
-    private JSONObject itemData;
+    private final int id;
     private final String name;
     private final String type;
 
@@ -28,42 +28,56 @@ public class Item implements Writable {
     private int thirstPoints = 0;
     private int healthPoints = 0;
 
+    // REQUIRES: an item with name and type exists in the ItemCatalog
     // EFFECTS: constructs an item with name and type
+    //          that is equal to the canonical item in the ItemCatalog
     public Item(String name, String type) throws IOException {
+        Item definition = ItemCatalog.getInstance().getItem(name, type);
+        this.id = definition.id;
         this.name = name;
         this.type = type;
-        this.fetchItemData();
-        this.parseItemData();
+        this.copyItemData(definition);
+    }
+
+    // EFFECTS: constructs the canonical item with the given id from its entry in Items.json
+    Item(int id, JSONObject itemData) {
+        this.id = id;
+        this.name = itemData.getString("itemName");
+        this.type = itemData.getString("itemType");
+        this.parseItemData(itemData);
+    }
+
+    // EFFECTS: constructs the canonical item with the given id and data
+    Item(int id, String name, String type, int price, int happiness, int hunger, int thirst, int health) {
+        this.id = id;
+        this.name = name;
+        this.type = type;
+        this.spritesDir += spritesFolderName();
+        this.price = price;
+        this.happinessPoints = happiness;
+        this.hungerPoints = hunger;
+        this.thirstPoints = thirst;
+        this.healthPoints = health;
     }
 
     // MODIFIES: this
-    // REQUIRES: itemsDataDir exists
-    // EFFECTS:  gathers data from itemsDataDir and stores it
-    private void fetchItemData() throws IOException {
-        String content = FileUtils.readFileToString(itemsDataDir, "utf-8");
-        JSONObject itemsJson = new JSONObject(content);
-        JSONArray itemsArray = itemsJson.getJSONArray("items");
-
-        for (int i = 0; i < itemsArray.length(); i++) {
-            JSONObject itemData = itemsArray.getJSONObject(i);
-            String itemName = itemData.getString("itemName");
-            String itemType = itemData.getString("itemType");
-
-            if (itemName.equals(this.name) && itemType.equals(this.type)) {
-                this.itemData = itemData;
-                // break; // commented out for code coverage...
-            }
-        }
+    // REQUIRES: definition is not null
+    // EFFECTS:  copies the data of an item definition from the ItemCatalog
+    private void copyItemData(Item definition) {
+        this.spritesDir = definition.spritesDir;
+        this.price = definition.price;
+        this.happinessPoints = definition.happinessPoints;
+        this.hungerPoints = definition.hungerPoints;
+        this.thirstPoints = definition.thirstPoints;
+        this.healthPoints = definition.healthPoints;
     }
 
     // MODIFIES: this
-    // REQUIRES: itemData contains item data and is not null
-    // EFFECTS:  parses data from itemsData and assigns
+    // REQUIRES: data contains item data and is not null
+    // EFFECTS:  parses data and assigns
     //           corresponding variables the data contained
-    private void parseItemData() {
-        JSONObject data = this.itemData;
-        String fileName = this.name.toLowerCase() + "_" + this.type.toLowerCase();
-        this.spritesDir += fileName.replaceAll("\\s+","") + "/";
+    private void parseItemData(JSONObject data) {
+        this.spritesDir += spritesFolderName();
 
         int price = data.getInt("price");
         JSONArray carePoints = data.getJSONArray("carePoints");
@@ -75,6 +89,12 @@ public class Item implements Writable {
         this.healthPoints = carePoints.getInt(3);
     }
 
+    // EFFECTS: returns the name of the folder holding the item's sprites
+    private String spritesFolderName() {
+        String fileName = this.name.toLowerCase() + "_" + this.type.toLowerCase();
+        return fileName.replaceAll("\\s+","") + "/";
+    }
+
     // EFFECTS:  converts all item data to a JSONObject and returns it
     @Override
     public JSONObject toJsonObj() {
@@ -91,7 +111,30 @@ public class Item implements Writable {
         return itemDetails;
     }
 
+    // EFFECTS: returns true if other is an item with the same name and type
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (other == null || other.getClass() != this.getClass()) {
+            return false;
+        }
+
+        return this.id == ((Item) other).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
     // GETTERS
+    public int getId() {
+        return id;
+    }
+
     public String getSpritesDir() {
         return spritesDir;
     }
@@ -123,4 +166,15 @@ public class Item implements Writable {
     public int getHealthPoints() {
         return healthPoints;
     }
+
+    // REQUIRES: 0 <= careStat < CARE_STATS
+    // EFFECTS: returns the points the item gives to careStat
+    public int getCarePoints(int careStat) {
+        switch (careStat) {
+            case HAPPINESS: return happinessPoints;
+            case HUNGER: return hungerPoints;
+            case THIRST: return thirstPoints;
+            default: return healthPoints;
+        }
+    }
 }
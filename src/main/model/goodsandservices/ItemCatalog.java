@@ -0,0 +1,280 @@
+package model.goodsandservices;
+
+import model.configurables.FileLocations;
+import model.persistence.CatalogStreamReader;
+import model.persistence.CompiledCatalogFile;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// represents the catalog of every item in the game;
+// Items.json is streamed once and each item is given a dense id in the order it first appears,
+// so the catalog holds exactly one canonical Item per name and type;
+// the catalog is also compiled to a binary file that later runs map instead of parsing the JSON,
+// decoding every item record from the mapping as it loads, since the ids and the ItemIndex need every item;
+// a catalog is an immutable snapshot, and reloading publishes a new snapshot with a single volatile
+// write, keeping the id of every item that is still listed and never reusing the id of a removed one;
+// each snapshot builds an ItemIndex so lookups by type, price and care points avoid full scans;
+// shops and pets read the published snapshot when they use it, so a reload reaches games already running
+public class ItemCatalog {
+    public static final int COMPILED_KIND = 1;
+    private static final int COMPILED_RECORD_WIDTH = 7;
+
+    private static volatile ItemCatalog theCatalog;
+
+    private final Map<String, Item> itemsByKey;
+    private final ArrayList<Item> itemsById;
+    private final Map<String, BitSet> idsByName;
+    private final ItemIndex index;
+    private final List<Item> items;
+    private ItemCatalog previous;
+    private int nextId;
+
+    // EFFECTS: constructs an ItemCatalog from the items data in itemsDataDir, reading it from
+    //          compiledDataDir instead if that was compiled from the current itemsDataDir;
+    //          items also listed in previous keep their ids, and new items are given ids after
+    //          every id of previous; previous may be null
+    ItemCatalog(File itemsDataDir, File compiledDataDir, ItemCatalog previous) throws IOException {
+        itemsByKey = new LinkedHashMap<>();
+        itemsById = new ArrayList<>();
+        idsByName = new HashMap<>();
+        this.previous = previous;
+        nextId = (previous == null) ? 0 : previous.size();
+
+        CompiledCatalogFile compiled = CompiledCatalogFile.open(compiledDataDir, itemsDataDir, COMPILED_KIND);
+        if (compiled != null) {
+            readCompiledItems(compiled);
+        } else {
+            parseItemsData(itemsDataDir);
+            compileItems(compiledDataDir, itemsDataDir);
+        }
+
+        while (itemsById.size() < nextId) {
+            itemsById.add(null);
+        }
+        this.previous = null;
+        this.index = new ItemIndex(itemsByKey.values());
+        this.items = Collections.unmodifiableList(new ArrayList<>(itemsByKey.values()));
+    }
+
+    // EFFECTS: returns the current snapshot of the catalog shared by the whole game,
+    //          loading it from Items.json if it has not been loaded yet
+    public static ItemCatalog getInstance() throws IOException {
+        ItemCatalog catalog = theCatalog;
+
+        if (catalog == null) {
+            synchronized (ItemCatalog.class) {
+                if (theCatalog == null) {
+                    theCatalog = load(null);
+                }
+                catalog = theCatalog;
+            }
+        }
+        return catalog;
+    }
+
+    // EFFECTS: returns the current snapshot of the catalog, or null if it has not been loaded yet
+    public static ItemCatalog getLoadedInstance() {
+        return theCatalog;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  loads a new snapshot of the catalog from Items.json and publishes it,
+    //           leaving the current snapshot untouched if Items.json cannot be read
+    public static synchronized ItemCatalog reload() throws IOException {
+        publish(load(theCatalog));
+        return theCatalog;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  publishes catalog as the current snapshot
+    public static synchronized void publish(ItemCatalog catalog) {
+        theCatalog = catalog;
+    }
+
+    // EFFECTS: returns a new snapshot of the catalog, without publishing it, loaded from itemsFile
+    //          or from compiledFile if that was compiled from it, that follows the current snapshot
+    public static ItemCatalog load(File itemsFile, File compiledFile) throws IOException {
+        return new ItemCatalog(itemsFile, compiledFile, theCatalog);
+    }
+
+    // EFFECTS: returns a new snapshot of the catalog loaded from Items.json that follows previous
+    private static ItemCatalog load(ItemCatalog previous) throws IOException {
+        return new ItemCatalog(new File(FileLocations.getDataDir("Item")),
+                new File(FileLocations.getCompiledDir("Item")), previous);
+    }
+
+    // MODIFIES: this
+    // REQUIRES: itemsDataDir exists
+    // EFFECTS:  reads every item in itemsDataDir one entry at a time and stores its definition
+    private void parseItemsData(File itemsDataDir) throws IOException {
+        try (CatalogStreamReader catalogReader = new CatalogStreamReader(itemsDataDir)) {
+            for (String key = catalogReader.nextKey(); key != null; key = catalogReader.nextKey()) {
+                if (key.equals("items")) {
+                    catalogReader.readArray(entry -> addItemData((JSONObject) entry));
+                } else {
+                    catalogReader.skipValue();
+                }
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stores the canonical item of every record in compiled
+    private void readCompiledItems(CompiledCatalogFile compiled) {
+        for (int i = 0; i < compiled.getRecordCount(); i++) {
+            String name = compiled.getString(compiled.getRecordInt(i, 0));
+            String type = compiled.getString(compiled.getRecordInt(i, 1));
+
+            addItem(new Item(idFor(name, type), name, type, compiled.getRecordInt(i, 2),
+                    compiled.getRecordInt(i, 3), compiled.getRecordInt(i, 4),
+                    compiled.getRecordInt(i, 5), compiled.getRecordInt(i, 6)));
+        }
+    }
+
+    // EFFECTS: writes every item to compiledDataDir as the compiled form of itemsDataDir;
+    //          the compiled file is only a cache, so failing to write it is ignored
+    private void compileItems(File compiledDataDir, File itemsDataDir) {
+        CompiledCatalogFile.Builder builder = new CompiledCatalogFile.Builder(COMPILED_KIND, COMPILED_RECORD_WIDTH);
+
+        for (Item item : itemsByKey.values()) {
+            builder.addRecord(builder.addString(item.getName()), builder.addString(item.getType()),
+                    item.getPrice(), item.getHappinessPoints(), item.getHungerPoints(),
+                    item.getThirstPoints(), item.getHealthPoints());
+        }
+
+        try {
+            builder.write(compiledDataDir, itemsDataDir);
+        } catch (IOException expected) {
+            // the next load parses Items.json again
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stores the canonical item for itemData
+    private void addItemData(JSONObject itemData) {
+        addItem(new Item(idFor(itemData.getString("itemName"), itemData.getString("itemType")), itemData));
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  returns the id of the item with name and type if it is already stored
+    //           or was in the previous snapshot, otherwise returns the next unused id
+    private int idFor(String name, String type) {
+        Item existing = itemsByKey.get(makeKey(name, type));
+
+        if (existing == null && previous != null) {
+            existing = previous.getItem(name, type);
+        }
+        return (existing == null) ? nextId++ : existing.getId();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stores item as the canonical item of its name and type; an item listed
+    //           more than once keeps its first id and takes the data of its last entry;
+    //           ids that no item is stored under are left as null
+    private void addItem(Item item) {
+        int id = item.getId();
+
+        while (itemsById.size() <= id) {
+            itemsById.add(null);
+        }
+        if (itemsById.get(id) == null) {
+            idsByName.computeIfAbsent(item.getName(), name -> new BitSet()).set(id);
+        }
+        itemsById.set(id, item);
+        itemsByKey.put(makeKey(item.getName(), item.getType()), item);
+    }
+
+    // EFFECTS: returns the canonical item with the given name and type,
+    //          or null if no such item exists
+    public Item getItem(String name, String type) {
+        return itemsByKey.get(makeKey(name, type));
+    }
+
+    // REQUIRES: 0 <= id < size()
+    // EFFECTS: returns the canonical item with the given id,
+    //          or null if the item was removed in an earlier reload
+    public Item getItem(int id) {
+        return itemsById.get(id);
+    }
+
+    // EFFECTS: returns the set of ids of every item whose name is one of names,
+    //          regardless of the item's type
+    public BitSet getIdsNamed(Collection<String> names) {
+        BitSet ids = new BitSet(size());
+
+        for (String name : names) {
+            BitSet named = idsByName.get(name);
+            if (named != null) {
+                ids.or(named);
+            }
+        }
+
+        return ids;
+    }
+
+    // EFFECTS: returns the unmodifiable list of items of type, in catalog order
+    public List<Item> getItemsOfType(String type) {
+        return index.getItemsOfType(type);
+    }
+
+    // EFFECTS: returns the items of type, or of any type if type is null, whose price is
+    //          between minPrice and maxPrice inclusive, from cheapest to most expensive
+    public ArrayList<Item> getItemsPricedBetween(String type, int minPrice, int maxPrice) {
+        return index.getItemsPricedBetween(type, minPrice, maxPrice);
+    }
+
+    // REQUIRES: 0 <= careStat < Item.CARE_STATS
+    // EFFECTS: returns the items giving between minPoints and maxPoints inclusive to careStat,
+    //          from fewest to most points
+    public ArrayList<Item> getItemsWithCarePointsBetween(int careStat, int minPoints, int maxPoints) {
+        return index.getItemsWithCarePointsBetween(careStat, minPoints, maxPoints);
+    }
+
+    // REQUIRES: 0 <= careStat < Item.CARE_STATS, and count >= 0
+    // EFFECTS: returns up to count items giving the most points to careStat, from most to fewest points
+    public ArrayList<Item> getBestItemsFor(int careStat, int count) {
+        return index.getBestItemsFor(careStat, count);
+    }
+
+    // REQUIRES: 0 <= careStat < Item.CARE_STATS
+    // EFFECTS: returns the unmodifiable list of items that give more points to careStat
+    //          than to any earlier care stat and at least as many as to any later one
+    public List<Item> getItemsDominantIn(int careStat) {
+        return index.getItemsDominantIn(careStat);
+    }
+
+    // EFFECTS: returns true if an item with the given name and type exists
+    public boolean containsItem(String name, String type) {
+        return itemsByKey.containsKey(makeKey(name, type));
+    }
+
+    // EFFECTS: returns the key an item is stored under
+    private static String makeKey(String name, String type) {
+        return name + "~" + type;
+    }
+
+    // GETTERS
+    public ArrayList<Item> getAllItems() {
+        return new ArrayList<>(items);
+    }
+
+    // EFFECTS: returns the unmodifiable list of every item in the snapshot, in catalog order
+    public List<Item> getItems() {
+        return items;
+    }
+
+    // EFFECTS: returns one more than the largest id ever given to an item
+    public int size() {
+        return itemsById.size();
+    }
+}
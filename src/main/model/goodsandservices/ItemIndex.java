@@ -0,0 +1,146 @@
+package model.goodsandservices;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+// represents the secondary indexes of a catalog snapshot: its items by type, by price within
+// each type and overall, by the points given to each care stat, and by their dominant care stat;
+// range and top-k queries binary search a sorted column and copy only the k items they return
+class ItemIndex {
+    private final Map<String, List<Item>> itemsByType;
+    private final Map<String, SortedColumn> pricesByType;
+    private final SortedColumn prices;
+    private final SortedColumn[] carePoints;
+    private final List<List<Item>> itemsByDominantStat;
+
+    // EFFECTS: constructs the indexes of items
+    ItemIndex(Collection<Item> items) {
+        itemsByType = new HashMap<>();
+        pricesByType = new HashMap<>();
+        prices = new SortedColumn(items, Item::getPrice);
+        carePoints = new SortedColumn[Item.CARE_STATS];
+        itemsByDominantStat = new ArrayList<>();
+
+        for (Item item : items) {
+            itemsByType.computeIfAbsent(item.getType(), type -> new ArrayList<>()).add(item);
+        }
+        for (Map.Entry<String, List<Item>> entry : itemsByType.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            pricesByType.put(entry.getKey(), new SortedColumn(entry.getValue(), Item::getPrice));
+        }
+        for (int careStat = 0; careStat < Item.CARE_STATS; careStat++) {
+            int stat = careStat;
+            carePoints[careStat] = new SortedColumn(items, item -> item.getCarePoints(stat));
+            itemsByDominantStat.add(new ArrayList<>());
+        }
+        for (Item item : items) {
+            itemsByDominantStat.get(dominantStatOf(item)).add(item);
+        }
+    }
+
+    // EFFECTS: returns the care stat item gives the most points to, preferring the earlier stat on a tie
+    static int dominantStatOf(Item item) {
+        int dominant = 0;
+
+        for (int careStat = 1; careStat < Item.CARE_STATS; careStat++) {
+            if (item.getCarePoints(careStat) > item.getCarePoints(dominant)) {
+                dominant = careStat;
+            }
+        }
+        return dominant;
+    }
+
+    // EFFECTS: returns the unmodifiable list of items of type, in catalog order
+    List<Item> getItemsOfType(String type) {
+        return itemsByType.getOrDefault(type, Collections.emptyList());
+    }
+
+    // EFFECTS: returns the items of type, or of any type if type is null, whose price is
+    //          between minPrice and maxPrice inclusive, from cheapest to most expensive
+    ArrayList<Item> getItemsPricedBetween(String type, int minPrice, int maxPrice) {
+        SortedColumn column = (type == null) ? prices : pricesByType.get(type);
+        return (column == null) ? new ArrayList<>() : column.between(minPrice, maxPrice);
+    }
+
+    // REQUIRES: 0 <= careStat < Item.CARE_STATS
+    // EFFECTS: returns the items giving between minPoints and maxPoints inclusive to careStat,
+    //          from fewest to most points
+    ArrayList<Item> getItemsWithCarePointsBetween(int careStat, int minPoints, int maxPoints) {
+        return carePoints[careStat].between(minPoints, maxPoints);
+    }
+
+    // REQUIRES: 0 <= careStat < Item.CARE_STATS, and count >= 0
+    // EFFECTS: returns up to count items giving the most points to careStat, from most to fewest points
+    ArrayList<Item> getBestItemsFor(int careStat, int count) {
+        return carePoints[careStat].highest(count);
+    }
+
+    // REQUIRES: 0 <= careStat < Item.CARE_STATS
+    // EFFECTS: returns the items whose dominant care stat is careStat, in catalog order
+    List<Item> getItemsDominantIn(int careStat) {
+        return Collections.unmodifiableList(itemsByDominantStat.get(careStat));
+    }
+
+    // represents items sorted by an int key, stored as parallel arrays of keys and items
+    private static class SortedColumn {
+        private final int[] keys;
+        private final Item[] items;
+
+        // EFFECTS: constructs a column of items sorted by key, keeping catalog order among equal keys
+        SortedColumn(Collection<Item> unsorted, ToIntFunction<Item> key) {
+            ArrayList<Item> sorted = new ArrayList<>(unsorted);
+            sorted.sort(Comparator.comparingInt(key));
+
+            items = sorted.toArray(new Item[0]);
+            keys = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                keys[i] = key.applyAsInt(items[i]);
+            }
+        }
+
+        // EFFECTS: returns the index of the first key that is >= min, or keys.length if there is none
+        private int firstAtLeast(long min) {
+            int low = 0;
+            int high = keys.length;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < min) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // EFFECTS: returns the items whose key is between min and max inclusive, in key order
+        ArrayList<Item> between(int min, int max) {
+            int start = firstAtLeast(min);
+            int end = firstAtLeast((long) max + 1);
+            ArrayList<Item> found = new ArrayList<>(Math.max(0, end - start));
+
+            for (int i = start; i < end; i++) {
+                found.add(items[i]);
+            }
+            return found;
+        }
+
+        // EFFECTS: returns up to count items with the highest keys, from highest to lowest
+        ArrayList<Item> highest(int count) {
+            int end = Math.max(0, items.length - count);
+            ArrayList<Item> found = new ArrayList<>(items.length - end);
+
+            for (int i = items.length - 1; i >= end; i--) {
+                found.add(items[i]);
+            }
+            return found;
+        }
+    }
+}
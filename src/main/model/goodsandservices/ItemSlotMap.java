@@ -0,0 +1,115 @@
+package model.goodsandservices;
+
+import java.util.Arrays;
+
+// represents a map from item ids to the slots they are stored in, kept as a single int array
+// of open-addressed [id, slot] pairs so lookups neither box nor allocate;
+// removals shift later entries back instead of leaving deleted markers behind
+public class ItemSlotMap {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] entries;
+    private int mask;
+    private int size;
+
+    // EFFECTS: constructs an empty map
+    public ItemSlotMap() {
+        clear();
+    }
+
+    // EFFECTS: returns the slot of the item with id, or -1 if it has no slot
+    public int get(int id) {
+        for (int i = indexFor(id); ; i = (i + 1) & mask) {
+            int key = entries[2 * i];
+            if (key == id) {
+                return entries[2 * i + 1];
+            } else if (key == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: id >= 0, and slot >= 0
+    // EFFECTS:  stores slot as the slot of the item with id
+    public void put(int id, int slot) {
+        if (2 * (size + 1) > capacity()) {
+            resize(capacity() * 2);
+        }
+
+        int i = indexFor(id);
+        while (entries[2 * i] != EMPTY && entries[2 * i] != id) {
+            i = (i + 1) & mask;
+        }
+        if (entries[2 * i] == EMPTY) {
+            size++;
+        }
+        entries[2 * i] = id;
+        entries[2 * i + 1] = slot;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes the slot of the item with id, if it has one
+    public void remove(int id) {
+        int i = indexFor(id);
+        while (entries[2 * i] != id) {
+            if (entries[2 * i] == EMPTY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        size--;
+        for (int next = (i + 1) & mask; entries[2 * next] != EMPTY; next = (next + 1) & mask) {
+            int home = indexFor(entries[2 * next]);
+            if (((next - home) & mask) >= ((next - i) & mask)) {
+                entries[2 * i] = entries[2 * next];
+                entries[2 * i + 1] = entries[2 * next + 1];
+                i = next;
+            }
+        }
+        entries[2 * i] = EMPTY;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes every slot
+    public void clear() {
+        entries = new int[2 * MIN_CAPACITY];
+        Arrays.fill(entries, EMPTY);
+        mask = MIN_CAPACITY - 1;
+        size = 0;
+    }
+
+    // EFFECTS: returns the number of ids with a slot
+    public int size() {
+        return size;
+    }
+
+    // EFFECTS: returns the number of [id, slot] pairs the table has room for
+    private int capacity() {
+        return mask + 1;
+    }
+
+    // EFFECTS: returns the index id is first looked for at
+    private int indexFor(int id) {
+        int hash = id * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  moves every pair into a table with room for newCapacity pairs
+    private void resize(int newCapacity) {
+        int[] oldEntries = entries;
+        entries = new int[2 * newCapacity];
+        Arrays.fill(entries, EMPTY);
+        mask = newCapacity - 1;
+        size = 0;
+
+        for (int i = 0; i < oldEntries.length; i += 2) {
+            if (oldEntries[i] != EMPTY) {
+                put(oldEntries[i], oldEntries[i + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package model.goodsandservices;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+// represents the shop of a single game, only ever touched by the thread that runs that game;
+// the shop's stock is stored as columns, with its items, prices and quantities in parallel arrays
+// and an ItemSlotMap from each item's id to its slot, so every per-item operation is O(1);
+// removing an item moves the item in the last slot into its slot
+public class LocalShop extends Shop {
+    private static final int INITIAL_SLOTS = 8;
+
+    private Item[] items;
+    private int[] prices;
+    private int[] stock;
+    private int size;
+    private final ItemSlotMap slots;
+
+    // EFFECTS: constructs a shop with a shopName, loading the ItemCatalog if it has not been loaded yet
+    public LocalShop(String shopName) throws IOException {
+        super(shopName);
+        this.items = new Item[INITIAL_SLOTS];
+        this.prices = new int[INITIAL_SLOTS];
+        this.stock = new int[INITIAL_SLOTS];
+        this.size = 0;
+        this.slots = new ItemSlotMap();
+    }
+
+    // MODIFIES: this
+    // REQUIRES: price >= 0, and
+    //           quantity > 0
+    // EFFECTS: adds item to shopItems, and
+    //          adds quantity to quantityInStock
+    @Override
+    public void addShopItem(Item item, int quantity) {
+        if (!checkIsInShop(item)) {
+            ensureSlots(size + 1);
+            items[size] = item;
+            prices[size] = item.getPrice();
+            stock[size] = quantity;
+            slots.put(item.getId(), size);
+            size++;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes item from shopItems,
+    //          removes its price from priceOfItems, and
+    //          removes its quantity from quantityInStock
+    @Override
+    public void removeShopItem(Item item) {
+        int slot = slots.get(item.getId());
+
+        if (slot >= 0) {
+            removeSlot(slot);
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: 0 <= slot < size
+    // EFFECTS:  removes the item in slot, moving the item in the last slot into its place
+    private void removeSlot(int slot) {
+        int last = size - 1;
+        slots.remove(items[slot].getId());
+
+        if (slot != last) {
+            items[slot] = items[last];
+            prices[slot] = prices[last];
+            stock[slot] = stock[last];
+            slots.put(items[slot].getId(), slot);
+        }
+        items[last] = null;
+        size--;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: item is in shopItems
+    // EFFECTS:  returns the quantity of a specific item
+    @Override
+    public int getItemQuantity(Item item) {
+        return stock[slots.get(item.getId())];
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  changes the quantity of the item in quantityInStock
+    @Override
+    public void setItemQuantity(Item item, int quantity) {
+        int slot = slots.get(item.getId());
+
+        if (slot >= 0) {
+            stock[slot] = quantity;
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: item is in shopItems
+    // EFFECTS:  returns the price of a specific item
+    @Override
+    public int getItemPrice(Item item) {
+        return prices[slots.get(item.getId())];
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  changes the price of the item in priceOfItems
+    @Override
+    public void setItemPrice(Item item, int price) {
+        int slot = slots.get(item.getId());
+
+        if (slot >= 0) {
+            prices[slot] = price;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds value to the quantity of item in quantityInStock
+    //           removes item if quantity becomes 0
+    @Override
+    public void changeItemQuantity(Item item, int value) {
+        int slot = slots.get(item.getId());
+
+        if (slot >= 0) {
+            changeSlotQuantity(slot, value);
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: 0 <= slot < size
+    // EFFECTS:  adds value to the quantity in slot, removing its item if the quantity becomes 0
+    private void changeSlotQuantity(int slot, int value) {
+        int newStocked = stock[slot] + value;
+
+        if (newStocked == 0) {
+            removeSlot(slot);
+        } else {
+            stock[slot] = newStocked;
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  if item is in shopItems with at least quantity in stock, takes quantity of it
+    //           out of stock and returns true, otherwise changes nothing and returns false
+    @Override
+    public boolean takeFromStock(Item item, int quantity) {
+        int slot = slots.get(item.getId());
+
+        if (slot < 0 || stock[slot] < quantity) {
+            return false;
+        }
+        changeSlotQuantity(slot, -quantity);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  if every item of cart is in shopItems with enough in stock, takes all of cart
+    //           out of stock and returns true, otherwise changes nothing and returns false
+    @Override
+    public boolean takeFromStock(Cart cart) {
+        for (int i = 0; i < cart.size(); i++) {
+            Item item = cart.getItem(i);
+            if (!checkIsInShop(item) || getItemQuantity(item) < cart.getQuantity(i)) {
+                return false;
+            }
+        }
+
+        for (int i = 0; i < cart.size(); i++) {
+            changeItemQuantity(cart.getItem(i), -cart.getQuantity(i));
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  sets the price of every item in shopItems to its price from engine
+    @Override
+    public void reprice(PricingEngine engine) {
+        engine.priceAll(items, prices, size);
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  restocks all items in shopItems by quantity
+    @Override
+    public void stockAllExisting(int quantity) {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            changeSlotQuantity(slot, quantity);
+        }
+    }
+
+    // EFFECTS: returns true if item exists in shopItems
+    @Override
+    public boolean checkIsInShop(Item item) {
+        return slots.get(item.getId()) >= 0;
+    }
+
+    // EFFECTS: returns the number of items in shopItems
+    @Override
+    public int getShopItemCount() {
+        return size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  grows the columns so that they have at least count slots
+    private void ensureSlots(int count) {
+        if (count > items.length) {
+            int newLength = Math.max(count, items.length * 2);
+            items = Arrays.copyOf(items, newLength);
+            prices = Arrays.copyOf(prices, newLength);
+            stock = Arrays.copyOf(stock, newLength);
+        }
+    }
+
+    // EFFECTS: returns the first count values of column as a list
+    private static ArrayList<Integer> columnToList(int[] column, int count) {
+        ArrayList<Integer> list = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            list.add(column[i]);
+        }
+        return list;
+    }
+
+    // GETTERS
+    // the lists below are copies of the shop's columns in slot order;
+    // changing them does not change the shop
+    @Override
+    public ArrayList<Item> getShopItems() {
+        return new ArrayList<>(Arrays.asList(items).subList(0, size));
+    }
+
+    @Override
+    public ArrayList<Integer> getPriceOfItems() {
+        return columnToList(prices, size);
+    }
+
+    @Override
+    public ArrayList<Integer> getQuantityInStock() {
+        return columnToList(stock, size);
+    }
+
+    // SETTERS
+    // the setters below replace a column in slot order; shopItems must be set before
+    // priceOfItems and quantityInStock, which must have the same number of entries
+    @Override
+    public void setShopItems(ArrayList<Item> shopItems) {
+        int newSize = shopItems.size();
+        ensureSlots(newSize);
+        Arrays.fill(items, null);
+        slots.clear();
+
+        for (int slot = 0; slot < newSize; slot++) {
+            items[slot] = shopItems.get(slot);
+            slots.put(items[slot].getId(), slot);
+        }
+        if (newSize > size) {
+            Arrays.fill(prices, size, newSize, 0);
+            Arrays.fill(stock, size, newSize, 0);
+        }
+        size = newSize;
+    }
+
+    @Override
+    public void setPriceOfItems(ArrayList<Integer> priceOfItems) {
+        for (int slot = 0; slot < size; slot++) {
+            prices[slot] = priceOfItems.get(slot);
+        }
+    }
+
+    @Override
+    public void setQuantityInStock(ArrayList<Integer> quantityInStock) {
+        for (int slot = 0; slot < size; slot++) {
+            stock[slot] = quantityInStock.get(slot);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package model.goodsandservices;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// represents the dynamic pricing of a shop, which prices each item by how much it has been bought lately;
+// the demand for an item is its purchases decayed exponentially with a half-life; rather than decaying
+// every item as time passes, each purchase is weighted by how far the clock is past a shared epoch, so
+// an item's demand is its weight divided by the growth of the clock since the epoch; recording a purchase
+// and reading a demand are then a multiply each, and repricing is one pass over a primitive array of weights;
+// purchases are first counted without locking in a striped LongAdder per item, so players buying at once
+// never wait on each other, and are folded into the weights at the current game second whenever a demand
+// is read or the clock moves;
+// an item with no demand sells at minMultiplier times its catalog price, rising towards maxMultiplier
+// times its catalog price as its demand grows past referenceDemand
+public class PricingEngine {
+    private static final int INITIAL_ITEMS = 16;
+    private static final double MAX_GROWTH_EXPONENT = 200;
+
+    private final int repriceIntervalSeconds;
+    private final double decayPerSecond;
+    private final double referenceDemand;
+    private final double minMultiplier;
+    private final double maxMultiplier;
+
+    private double[] weights;
+    private volatile LongAdder[] pending;
+    private long epoch;
+    private double growth;
+    private long now;
+    private long nextReprice;
+
+    // REQUIRES: repriceIntervalSeconds > 0, halfLifeSeconds > 0, referenceDemand > 0,
+    //           and 0 < minMultiplier <= maxMultiplier
+    // EFFECTS: constructs a pricing engine with no demand that reprices every repriceIntervalSeconds
+    public PricingEngine(int repriceIntervalSeconds, double halfLifeSeconds, double referenceDemand,
+                         double minMultiplier, double maxMultiplier) {
+        this.repriceIntervalSeconds = repriceIntervalSeconds;
+        this.decayPerSecond = Math.log(2) / halfLifeSeconds;
+        this.referenceDemand = referenceDemand;
+        this.minMultiplier = minMultiplier;
+        this.maxMultiplier = maxMultiplier;
+
+        this.weights = new double[INITIAL_ITEMS];
+        this.pending = new LongAdder[INITIAL_ITEMS];
+        this.epoch = 0;
+        this.growth = 1;
+        this.now = 0;
+        this.nextReprice = repriceIntervalSeconds;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: quantity > 0
+    // EFFECTS:  adds quantity purchases of item at the current game second to its demand, taking a lock
+    //           only the first time item is bought
+    public void recordPurchase(Item item, int quantity) {
+        int id = item.getId();
+        LongAdder[] counters = pending;
+        LongAdder counter = (id < counters.length) ? counters[id] : null;
+
+        if (counter == null) {
+            counter = pendingCounter(id);
+        }
+        counter.add(quantity);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  returns the counter of pending purchases of the item with id, making it if there is none
+    private synchronized LongAdder pendingCounter(int id) {
+        ensureItems(id + 1);
+        if (pending[id] == null) {
+            pending[id] = new LongAdder();
+        }
+        return pending[id];
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds every pending purchase to the weights at the current game second
+    private void foldPending() {
+        LongAdder[] counters = pending;
+
+        for (int id = 0; id < counters.length; id++) {
+            if (counters[id] != null) {
+                long bought = counters[id].sumThenReset();
+                if (bought != 0) {
+                    weights[id] += bought * growth;
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the demand for item at the current game second
+    public synchronized double getDemand(Item item) {
+        int id = item.getId();
+        foldPending();
+        return (id < weights.length) ? weights[id] / growth : 0;
+    }
+
+    // EFFECTS: returns the price item should sell for given its demand at the current game second
+    public synchronized int priceFor(Item item) {
+        return priceAt(item, getDemand(item));
+    }
+
+    // MODIFIES: prices
+    // REQUIRES: items and prices have at least count entries
+    // EFFECTS:  sets the first count prices to the prices of the first count items
+    public synchronized void priceAll(Item[] items, int[] prices, int count) {
+        foldPending();
+        double decay = 1 / growth;
+
+        for (int i = 0; i < count; i++) {
+            int id = items[i].getId();
+            prices[i] = priceAt(items[i], (id < weights.length) ? weights[id] * decay : 0);
+        }
+    }
+
+    // EFFECTS: returns the price of item when its demand is itemDemand
+    private int priceAt(Item item, double itemDemand) {
+        double share = itemDemand / (itemDemand + referenceDemand);
+        double multiplier = minMultiplier + (maxMultiplier - minMultiplier) * share;
+
+        return Math.max(1, (int) Math.round(item.getPrice() * multiplier));
+    }
+
+    // MODIFIES: this, shop
+    // EFFECTS:  moves the engine to game second nowSeconds and reprices shop if a reprice is due,
+    //           returning true if it was; reprices missed while the game was not running
+    //           are made up by a single reprice, and moving back to an earlier game second,
+    //           such as when a save is loaded, brings the next reprice back with it
+    public boolean advanceTo(long nowSeconds, Shop shop) {
+        synchronized (this) {
+            if (nowSeconds < now) {
+                nextReprice = Math.min(nextReprice, nowSeconds + repriceIntervalSeconds);
+            }
+            foldPending();
+            moveClockTo(nowSeconds);
+            if (now < nextReprice) {
+                return false;
+            }
+            nextReprice = now + repriceIntervalSeconds;
+        }
+
+        shop.reprice(this);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  moves the clock to nowSeconds; if the clock moved back or would grow too large to keep
+    //           adding purchases to, every weight is first rescaled to its demand at the later of the
+    //           two game seconds and the epoch moved to nowSeconds, so moving back keeps every demand
+    private void moveClockTo(long nowSeconds) {
+        double exponent = decayPerSecond * (nowSeconds - epoch);
+
+        if (nowSeconds < now || exponent > MAX_GROWTH_EXPONENT) {
+            double decay = Math.exp(-decayPerSecond * (Math.max(now, nowSeconds) - epoch));
+            for (int id = 0; id < weights.length; id++) {
+                weights[id] *= decay;
+            }
+            epoch = nowSeconds;
+            exponent = 0;
+        }
+
+        now = nowSeconds;
+        growth = Math.exp(exponent);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  grows the weights and pending purchases so that they hold at least count items
+    private void ensureItems(int count) {
+        if (count > weights.length) {
+            int newLength = Math.max(count, weights.length * 2);
+            weights = Arrays.copyOf(weights, newLength);
+            pending = Arrays.copyOf(pending, newLength);
+        }
+    }
+
+    // GETTERS
+    public synchronized long getNextReprice() {
+        return nextReprice;
+    }
+
+    public int getRepriceIntervalSeconds() {
+        return repriceIntervalSeconds;
+    }
+}
@@ -0,0 +1,47 @@
+package model.goodsandservices;
+
+// represents how often a shop is restocked and what each restock adds to it
+public class RestockPolicy {
+    private final int intervalSeconds;
+    private final int restockQuantity;
+    private final int newItems;
+    private final int newItemQuantity;
+
+    // REQUIRES: intervalSeconds > 0, restockQuantity >= 0, newItems >= 0, and newItemQuantity > 0
+    // EFFECTS: constructs a policy that restocks a shop every intervalSeconds by adding restockQuantity
+    //          to each item it sells and newItems items it does not sell yet with newItemQuantity each
+    public RestockPolicy(int intervalSeconds, int restockQuantity, int newItems, int newItemQuantity) {
+        this.intervalSeconds = intervalSeconds;
+        this.restockQuantity = restockQuantity;
+        this.newItems = newItems;
+        this.newItemQuantity = newItemQuantity;
+    }
+
+    // MODIFIES: shop
+    // EFFECTS:  restocks shop once
+    public void restock(Shop shop) {
+        if (restockQuantity > 0) {
+            shop.stockAllExisting(restockQuantity);
+        }
+        if (newItems > 0) {
+            shop.stockWithRandomItems(newItems, newItemQuantity);
+        }
+    }
+
+    // GETTERS
+    public int getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    public int getRestockQuantity() {
+        return restockQuantity;
+    }
+
+    public int getNewItems() {
+        return newItems;
+    }
+
+    public int getNewItemQuantity() {
+        return newItemQuantity;
+    }
+}
@@ -0,0 +1,177 @@
+package model.goodsandservices;
+
+import java.util.Arrays;
+
+// represents the restock deadlines of many shops, kept in a binary min-heap ordered by the game second
+// each shop is next due; checking for due restocks only compares against the earliest deadline,
+// so shops cost nothing between their restocks no matter how many are scheduled
+public class RestockScheduler {
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private long[] deadlines;
+    private Shop[] shops;
+    private RestockPolicy[] policies;
+    private int size;
+
+    // EFFECTS: constructs a scheduler with no shops
+    public RestockScheduler() {
+        deadlines = new long[INITIAL_CAPACITY];
+        shops = new Shop[INITIAL_CAPACITY];
+        policies = new RestockPolicy[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  schedules shop to be restocked by policy every policy interval, starting one interval
+    //           after nowSeconds; a shop that is already scheduled takes the new policy instead
+    public void schedule(Shop shop, RestockPolicy policy, long nowSeconds) {
+        unschedule(shop);
+        if (size == deadlines.length) {
+            deadlines = Arrays.copyOf(deadlines, size * 2);
+            shops = Arrays.copyOf(shops, size * 2);
+            policies = Arrays.copyOf(policies, size * 2);
+        }
+
+        set(size, nowSeconds + policy.getIntervalSeconds(), shop, policy);
+        size++;
+        siftUp(size - 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stops restocking shop, if it is scheduled
+    public void unschedule(Shop shop) {
+        for (int i = 0; i < size; i++) {
+            if (shops[i] == shop) {
+                removeAt(i);
+                return;
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes every shop
+    public void clear() {
+        Arrays.fill(shops, null);
+        Arrays.fill(policies, null);
+        size = 0;
+    }
+
+    // MODIFIES: this, the shops that are due
+    // EFFECTS:  restocks every shop once for each of its deadlines at or before nowSeconds,
+    //           in deadline order, and returns the number of restocks done
+    public int runDue(long nowSeconds) {
+        int restocks = 0;
+
+        while (size > 0 && deadlines[0] <= nowSeconds) {
+            Shop shop = shops[0];
+            RestockPolicy policy = policies[0];
+
+            deadlines[0] += policy.getIntervalSeconds();
+            siftDown(0);
+            policy.restock(shop);
+            restocks++;
+        }
+        return restocks;
+    }
+
+    // MODIFIES: this, the shops that are due
+    // EFFECTS:  restocks every shop with a deadline at or before nowSeconds once, however many of its
+    //           deadlines were missed, moves each of their deadlines to the first one after nowSeconds,
+    //           and returns the number of restocks done; used to catch up on a long time away
+    //           without restocking a shop once for every interval that passed
+    public int catchUp(long nowSeconds) {
+        int restocks = 0;
+
+        while (size > 0 && deadlines[0] <= nowSeconds) {
+            long interval = policies[0].getIntervalSeconds();
+            long missed = (nowSeconds - deadlines[0]) / interval + 1;
+
+            deadlines[0] += missed * interval;
+            Shop shop = shops[0];
+            RestockPolicy policy = policies[0];
+            siftDown(0);
+            policy.restock(shop);
+            restocks++;
+        }
+        return restocks;
+    }
+
+    // EFFECTS: returns the earliest game second a shop is due, or NO_DEADLINE if no shop is scheduled
+    public long getNextDeadline() {
+        return (size > 0) ? deadlines[0] : NO_DEADLINE;
+    }
+
+    // EFFECTS: returns the game second shop is next due, or NO_DEADLINE if it is not scheduled
+    public long getDeadline(Shop shop) {
+        for (int i = 0; i < size; i++) {
+            if (shops[i] == shop) {
+                return deadlines[i];
+            }
+        }
+        return NO_DEADLINE;
+    }
+
+    // EFFECTS: returns the number of scheduled shops
+    public int size() {
+        return size;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: 0 <= i < size
+    // EFFECTS:  removes the entry at i, keeping the heap ordered
+    private void removeAt(int i) {
+        size--;
+        if (i != size) {
+            set(i, deadlines[size], shops[size], policies[size]);
+            siftDown(i);
+            siftUp(i);
+        }
+        shops[size] = null;
+        policies[size] = null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  moves the entry at i up until its parent is due no later than it
+    private void siftUp(int i) {
+        while (i > 0 && deadlines[(i - 1) / 2] > deadlines[i]) {
+            swap(i, (i - 1) / 2);
+            i = (i - 1) / 2;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  moves the entry at i down until neither of its children is due before it
+    private void siftDown(int i) {
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && deadlines[child + 1] < deadlines[child]) {
+                child++;
+            }
+            if (deadlines[i] <= deadlines[child]) {
+                return;
+            }
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  swaps the entries at i and j
+    private void swap(int i, int j) {
+        long deadline = deadlines[i];
+        Shop shop = shops[i];
+        RestockPolicy policy = policies[i];
+
+        set(i, deadlines[j], shops[j], policies[j]);
+        set(j, deadline, shop, policy);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stores the entry at i
+    private void set(int i, long deadline, Shop shop, RestockPolicy policy) {
+        deadlines[i] = deadline;
+        shops[i] = shop;
+        policies[i] = policy;
+    }
+}
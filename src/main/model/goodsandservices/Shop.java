@@ -3,237 +3,220 @@ package model.goodsandservices;
 import model.configurables.FileLocations;
 import model.configurables.RandomGenerator;
 import model.persistence.Writable;
-import org.apache.commons.io.FileUtils;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import static model.persistence.ConverterJsonArrays.*;
 
-// represents a shop that sells pet items
-public class Shop implements Writable {
+// represents a shop that sells pet items, with each item's price and quantity in stock kept in slot order;
+// LocalShop is the shop of a single game and ConcurrentShop is a shop many players buy from at once, and
+// both share the shop's name, its pricing engine and how it is stocked with random items;
+// random stock is drawn from whichever snapshot of the ItemCatalog is published at the time, so shops
+// pick up items added or removed by a reload
+public abstract class Shop implements Writable {
     private final FileLocations fileLoc = new FileLocations();
     private final RandomGenerator rng = new RandomGenerator();
 
     private final String shopName;
+    private volatile PricingEngine pricingEngine;
 
-    private ArrayList<Item> shopItems;
-    private ArrayList<Integer> priceOfItems;
-    private ArrayList<Integer> quantityInStock;
-
-    private final String dataKey = "Item";
-    private final String itemsDir = FileLocations.getDataDir(dataKey);
-    private final File itemsDataDir = new File(itemsDir);
-
-    protected ArrayList<Item> allPossibleItems = new ArrayList<>();
-
-    // EFFECTS: constructs a shop with a shopName
+    // EFFECTS: constructs a shop with a shopName, loading the ItemCatalog if it has not been loaded yet
     public Shop(String shopName) throws IOException {
         this.shopName = shopName;
-        this.shopItems = new ArrayList<>();
-        this.priceOfItems = new ArrayList<>();
-        this.quantityInStock = new ArrayList<>();
 
-        fetchAllPossibleItems();
+        ItemCatalog.getInstance();
     }
 
     // MODIFIES: this
-    // REQUIRES: price >= 0, and
-    //           quantity > 0
-    // EFFECTS: adds item to shopItems, and
-    //          adds quantity to quantityInStock
-    public void addShopItem(Item item, int quantity) {
-        if (!checkIsInShop(item)) {
-            ArrayList<Item> newShopItems = getShopItems();
-            ArrayList<Integer> newPriceOfItems = getPriceOfItems();
-            ArrayList<Integer> newQuantityInStock = getQuantityInStock();
+    // REQUIRES: quantity > 0
+    // EFFECTS:  adds item to shopItems with quantity in stock, unless it is already sold
+    public abstract void addShopItem(Item item, int quantity);
 
-            newShopItems.add(item);
-            newPriceOfItems.add(item.getPrice());
-            newQuantityInStock.add(quantity);
+    // MODIFIES: this
+    // EFFECTS:  removes item from shopItems, along with its price and stock
+    public abstract void removeShopItem(Item item);
 
-            setShopItems(newShopItems);
-            setPriceOfItems(newPriceOfItems);
-            setQuantityInStock(newQuantityInStock);
-        }
-    }
+    // EFFECTS: returns the quantity of item in stock
+    public abstract int getItemQuantity(Item item);
 
     // MODIFIES: this
-    // EFFECTS: removes item from shopItems,
-    //          removes its price from priceOfItems, and
-    //          removes its quantity from quantityInStock
-    public void removeShopItem(Item item) {
-        if (checkIsInShop(item)) {
-            ArrayList<Item> newShopItems = getShopItems();
-            ArrayList<Integer> newPriceOfItems = getPriceOfItems();
-            ArrayList<Integer> newQuantityInStock = getQuantityInStock();
-            int index = shopItems.indexOf(item);
+    // EFFECTS:  sets the quantity of item in quantityInStock
+    public abstract void setItemQuantity(Item item, int quantity);
 
-            newShopItems.remove(index);
-            newPriceOfItems.remove(index);
-            newQuantityInStock.remove(index);
+    // REQUIRES: item is in shopItems
+    // EFFECTS: returns the price of item
+    public abstract int getItemPrice(Item item);
 
-            setShopItems(newShopItems);
-            setPriceOfItems(newPriceOfItems);
-            setQuantityInStock(newQuantityInStock);
-        }
-    }
+    // MODIFIES: this
+    // EFFECTS:  changes the price of item in priceOfItems
+    public abstract void setItemPrice(Item item, int price);
 
     // MODIFIES: this
-    // REQUIRES: item is in shopItems
-    // EFFECTS:  returns the quantity of a specific item
-    public int getItemQuantity(Item item) {
-        int index = shopItems.indexOf(item);
-        return quantityInStock.get(index);
-    }
+    // EFFECTS:  adds value to the quantity of item in quantityInStock
+    public abstract void changeItemQuantity(Item item, int value);
 
     // MODIFIES: this
-    // EFFECTS:  changes the quantity of the item in quantityInStock
-    public void setItemQuantity(Item item, int quantity) {
-        if (checkIsInShop(item)) {
-            ArrayList<Integer> newQuantity = getQuantityInStock();
-            int index = shopItems.indexOf(item);
+    // REQUIRES: quantity > 0
+    // EFFECTS:  if item is in shopItems with at least quantity in stock, takes quantity of it
+    //           out of stock and returns true, otherwise changes nothing and returns false
+    public abstract boolean takeFromStock(Item item, int quantity);
 
-            newQuantity.set(index, quantity);
-            setQuantityInStock(newQuantity);
-        }
-    }
+    // MODIFIES: this
+    // EFFECTS:  if every item of cart is in shopItems with enough in stock, takes all of cart
+    //           out of stock and returns true, otherwise leaves the stock as it was and returns false
+    public abstract boolean takeFromStock(Cart cart);
 
     // MODIFIES: this
-    // REQUIRES: item is in shopItems
-    // EFFECTS:  returns the price of a specific item
-    public int getItemPrice(Item item) {
-        int index = shopItems.indexOf(item);
-        return priceOfItems.get(index);
-    }
+    // EFFECTS:  sets the price of every item in shopItems to its price from engine
+    public abstract void reprice(PricingEngine engine);
 
     // MODIFIES: this
-    // EFFECTS:  changes the price of the item in priceOfItems
-    public void setItemPrice(Item item, int price) {
-        if (checkIsInShop(item)) {
-            ArrayList<Integer> newPrices = getPriceOfItems();
-            int index = shopItems.indexOf(item);
+    // REQUIRES: quantity > 0
+    // EFFECTS:  restocks all items in shopItems by quantity
+    public abstract void stockAllExisting(int quantity);
 
-            newPrices.set(index, price);
-            setPriceOfItems(newPrices);
-        }
-    }
+    // EFFECTS: returns true if item exists in shopItems
+    public abstract boolean checkIsInShop(Item item);
+
+    // EFFECTS: returns the number of items in shopItems
+    public abstract int getShopItemCount();
 
     // MODIFIES: this
-    // EFFECTS:  adds value to the quantity of item in quantityInStock
-    //           removes item if quantity becomes 0
-    public void changeItemQuantity(Item item, int value) {
-        if (checkIsInShop(item)) {
-            ArrayList<Integer> newStocks = getQuantityInStock();
-            int index = shopItems.indexOf(item);
-            int currentlyStocked = newStocks.get(index);
-            int newStocked = currentlyStocked + value;
-
-            if (newStocked == 0) {
-                removeShopItem(item);
-            } else {
-                newStocks.set(index, newStocked);
-                setQuantityInStock(newStocks);
-            }
+    // REQUIRES: quantity > 0
+    // EFFECTS:  records that quantity of item was bought, if the shop has a pricing engine
+    public void recordPurchase(Item item, int quantity) {
+        PricingEngine engine = pricingEngine;
+
+        if (engine != null) {
+            engine.recordPurchase(item, quantity);
         }
     }
 
     // MODIFIES: this
-    // REQUIRES: quantity > 0
-    // EFFECTS:  restocks all items in shopItems by quantity
-    public void stockAllExisting(int quantity) {
-        for (Item item : shopItems) {
-            changeItemQuantity(item, quantity);
+    // EFFECTS:  moves the shop's pricing engine to game second nowSeconds, repricing the shop if it is due
+    public void advancePricing(long nowSeconds) {
+        PricingEngine engine = pricingEngine;
+
+        if (engine != null) {
+            engine.advanceTo(nowSeconds, this);
         }
     }
 
     // MODIFIES: this
     // REQUIRES: 0 < numItems, and quantity > 0
-    // EFFECTS:  adds a number of random items from the disjunction of
-    //           allPossibleItems and shopItems to shopItems with a given quantity
+    // EFFECTS:  adds a number of random items of the current ItemCatalog snapshot
+    //           that are not in shopItems to shopItems with a given quantity
     public void stockWithRandomItems(int numItems, int quantity) {
-        ArrayList<Item> itemsNotInShop = new ArrayList<>(allPossibleItems);
-        itemsNotInShop.removeAll(shopItems);
+        stockWithRandomItemsOf(ItemCatalog.getLoadedInstance().getItems(), numItems, quantity);
+    }
 
-        for (int i = 0; i < numItems; i++) {
-            if (itemsNotInShop.size() > 0) {
-                int randomIndex = rng.randomNumberUpTo(itemsNotInShop.size());
-                Item item = itemsNotInShop.get(randomIndex);
+    // MODIFIES: this
+    // REQUIRES: 0 < numItems, minPrice <= maxPrice, and quantity > 0
+    // EFFECTS:  adds up to numItems random items of the current ItemCatalog snapshot of type, or of any type
+    //           if type is null, priced between minPrice and maxPrice inclusive, that are not in shopItems
+    //           to shopItems with a given quantity; the candidates come from the catalog's price index,
+    //           so only the items in the band are looked at
+    public void stockWithRandomItems(String type, int minPrice, int maxPrice, int numItems, int quantity) {
+        stockWithRandomItemsOf(ItemCatalog.getLoadedInstance().getItemsPricedBetween(type, minPrice, maxPrice),
+                numItems, quantity);
+    }
 
+    // MODIFIES: this
+    // EFFECTS:  adds up to numItems random items of possibleItems that are not in shopItems to shopItems
+    //           with a given quantity, sampling while most of possibleItems are certainly not in shopItems
+    //           and shuffling otherwise
+    protected void stockWithRandomItemsOf(List<Item> possibleItems, int numItems, int quantity) {
+        int possible = possibleItems.size();
+        int leastNotInShop = possible - getShopItemCount();
+
+        if ((leastNotInShop - numItems) * 2 >= possible) {
+            stockBySampling(possibleItems, numItems, quantity);
+        } else {
+            stockByShuffling(possibleItems, numItems, quantity);
+        }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: at least half of possibleItems will still not be in shopItems after numItems are added
+    // EFFECTS:  adds numItems random items of possibleItems that are not in shopItems by drawing
+    //           items until one is not in shopItems; each draw succeeds at least half the time,
+    //           so this takes O(numItems) expected time however many items there are
+    private void stockBySampling(List<Item> possibleItems, int numItems, int quantity) {
+        int added = 0;
+
+        while (added < numItems) {
+            Item item = possibleItems.get(rng.randomNumberUpTo(possibleItems.size()));
+            if (!checkIsInShop(item)) {
                 addShopItem(item, quantity);
-                itemsNotInShop.remove(item);
-            } else {
-                break;
+                added++;
             }
         }
     }
 
     // MODIFIES: this
-    // EFFECTS:  grabs all possible items and data from Items.json
-    //           and stores them in allPossibleItems
-    private void fetchAllPossibleItems() throws IOException {
-        String content = FileUtils.readFileToString(itemsDataDir, "utf-8");
-        JSONObject itemsJson = new JSONObject(content);
-        JSONArray itemsArray = itemsJson.getJSONArray("items");
-        allPossibleItems = new ArrayList<>();
-
-        for (int i = 0; i < itemsArray.length(); i++) {
-            JSONObject itemData = itemsArray.getJSONObject(i);
-            String itemName = itemData.getString("itemName");
-            String itemType = itemData.getString("itemType");
+    // EFFECTS:  adds up to numItems random items of possibleItems that are not in shopItems by
+    //           shuffling only the first numItems positions of the indices of those items; this is
+    //           used when shopItems already holds most of possibleItems, so it takes O(possibleItems) time
+    private void stockByShuffling(List<Item> possibleItems, int numItems, int quantity) {
+        int[] notInShop = new int[possibleItems.size()];
+        int count = 0;
+        for (int i = 0; i < notInShop.length; i++) {
+            if (!checkIsInShop(possibleItems.get(i))) {
+                notInShop[count++] = i;
+            }
+        }
 
-            allPossibleItems.add(new Item(itemName, itemType));
+        for (int i = 0; i < numItems && i < count; i++) {
+            int chosen = i + rng.randomNumberUpTo(count - i);
+            int index = notInShop[chosen];
+            notInShop[chosen] = notInShop[i];
+            addShopItem(possibleItems.get(index), quantity);
         }
     }
 
-
     // EFFECTS: converts all shop data to a JSONObject and returns it
     @Override
     public JSONObject toJsonObj() {
         JSONObject shopObject = new JSONObject();
-        shopObject.put("items", arrayListItemToJson(shopItems));
-        shopObject.put("quantities", arrayListIntToJson(quantityInStock));
-        shopObject.put("prices", arrayListIntToJson(priceOfItems));
-        shopObject.put("name", shopName);
+        shopObject.put("items", arrayListItemToJson(getShopItems()));
+        shopObject.put("quantities", arrayListIntToJson(getQuantityInStock()));
+        shopObject.put("prices", arrayListIntToJson(getPriceOfItems()));
+        shopObject.put("name", getShopName());
 
         return shopObject;
     }
 
-    // EFFECTS: returns true if item exists in shopItems
-    public boolean checkIsInShop(Item item) {
-        return shopItems.contains(item);
-    }
-
     // GETTERS
     public String getShopName() {
         return shopName;
     }
 
-    public ArrayList<Item> getShopItems() {
-        return shopItems;
+    public PricingEngine getPricingEngine() {
+        return pricingEngine;
     }
 
-    public ArrayList<Integer> getPriceOfItems() {
-        return priceOfItems;
-    }
+    // the lists below are copies of the shop's items, prices and stock in slot order;
+    // changing them does not change the shop
+    public abstract ArrayList<Item> getShopItems();
 
-    public ArrayList<Integer> getQuantityInStock() {
-        return quantityInStock;
-    }
+    public abstract ArrayList<Integer> getPriceOfItems();
+
+    public abstract ArrayList<Integer> getQuantityInStock();
 
     // SETTERS
-    public void setShopItems(ArrayList<Item> shopItems) {
-        this.shopItems = shopItems;
+    // a shop with no pricing engine keeps the prices it is given
+    public void setPricingEngine(PricingEngine pricingEngine) {
+        this.pricingEngine = pricingEngine;
     }
 
-    public void setPriceOfItems(ArrayList<Integer> priceOfItems) {
-        this.priceOfItems = priceOfItems;
-    }
+    // the setters below replace a column in slot order; shopItems must be set before
+    // priceOfItems and quantityInStock, which must have the same number of entries
+    public abstract void setShopItems(ArrayList<Item> shopItems);
 
-    public void setQuantityInStock(ArrayList<Integer> quantityInStock) {
-        this.quantityInStock = quantityInStock;
-    }
+    public abstract void setPriceOfItems(ArrayList<Integer> priceOfItems);
+
+    public abstract void setQuantityInStock(ArrayList<Integer> quantityInStock);
 }
@@ -0,0 +1,98 @@
+package model.goodsandservices;
+
+import org.json.JSONArray;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+// represents every shop in a game, keyed by shop name so finding a shop is a single hash lookup;
+// shops are kept in the order they were added, which is also the order they are saved in;
+// a shared shop belongs to whoever shares it with the game, so the game does not restock, reprice or save it
+public class ShopRegistry implements Iterable<Shop> {
+    private final LinkedHashMap<String, Shop> shopsByName;
+    private final HashSet<String> sharedNames;
+
+    // EFFECTS: constructs a registry with no shops
+    public ShopRegistry() {
+        shopsByName = new LinkedHashMap<>();
+        sharedNames = new HashSet<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds shop under its name, replacing any shop that already has that name,
+    //           and returns the shop it replaced, or null if there was none
+    public Shop add(Shop shop) {
+        sharedNames.remove(shop.getShopName());
+        return shopsByName.put(shop.getShopName(), shop);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  adds shop under its name as a shared shop, replacing any shop that already has that name,
+    //           and returns the shop it replaced, or null if there was none
+    public Shop addShared(Shop shop) {
+        sharedNames.add(shop.getShopName());
+        return shopsByName.put(shop.getShopName(), shop);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes the shop with shopName and returns it, or returns null if there is none
+    public Shop remove(String shopName) {
+        sharedNames.remove(shopName);
+        return shopsByName.remove(shopName);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  removes every shop
+    public void clear() {
+        shopsByName.clear();
+        sharedNames.clear();
+    }
+
+    // EFFECTS: returns true if shop is in the registry as a shared shop
+    public boolean isShared(Shop shop) {
+        return sharedNames.contains(shop.getShopName()) && shopsByName.get(shop.getShopName()) == shop;
+    }
+
+    // EFFECTS: returns the shop with shopName, or null if there is none
+    public Shop get(String shopName) {
+        return shopsByName.get(shopName);
+    }
+
+    // EFFECTS: returns true if there is a shop with shopName
+    public boolean contains(String shopName) {
+        return shopsByName.containsKey(shopName);
+    }
+
+    // EFFECTS: returns the number of shops
+    public int size() {
+        return shopsByName.size();
+    }
+
+    // EFFECTS: returns an iterator over the shops in the order they were added;
+    //          the iterator cannot remove shops
+    @Override
+    public Iterator<Shop> iterator() {
+        return Collections.unmodifiableCollection(shopsByName.values()).iterator();
+    }
+
+    // EFFECTS: returns every shop in the order they were added
+    public ArrayList<Shop> getShops() {
+        return new ArrayList<>(shopsByName.values());
+    }
+
+    // EFFECTS: returns the shops that are not shared as a JSONArray of shop objects, in the order they were added
+    public JSONArray toJsonArray() {
+        JSONArray shopsArray = new JSONArray();
+
+        for (Shop shop : shopsByName.values()) {
+            if (!isShared(shop)) {
+                shopsArray.put(shop.toJsonObj());
+            }
+        }
+
+        return shopsArray;
+    }
+}
@@ -1,60 +1,109 @@
 package model.logger;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a log of alarm system events.
  * We use the Singleton Design Pattern to ensure that there is only
  * one EventLog in the system and that the system has global access
  * to the single instance of the EventLog.
+ * Each game session also keeps an EventLog of its own, so the
+ * sessions of a session host never share one; whoever runs a
+ * session drains its events into wherever they are wanted; the
+ * log of a session may be given a capacity, beyond which logging
+ * an event drops the oldest one, so an undrained log stays bounded.
+ * Events may be logged from any thread without locking; iterating
+ * sees every event logged before the iteration began and never
+ * fails on one logged during it.
  */
 public class EventLog implements Iterable<Event> {
     /** the only EventLog in the system (Singleton Design Pattern) */
-    private static EventLog theLog;
-    private final Collection<Event> events;
+    private static final EventLog theLog = new EventLog();
+    private final ConcurrentLinkedQueue<Event> events;
+    private final AtomicInteger size;
+    private final int capacity;
 
     /**
-     * Prevent external construction.
-     * (Singleton Design Pattern).
+     * Constructs an empty event log of a single game session that
+     * keeps every event; the system-wide log is obtained by getInstance.
      */
-    private EventLog() {
-        events = new ArrayList<Event>();
+    public EventLog() {
+        this(Integer.MAX_VALUE);
     }
 
     /**
-     * Gets instance of EventLog - creates it
-     * if it doesn't already exist.
+     * Constructs an empty event log of a single game session that
+     * keeps at most the capacity most recently logged events.
+     * @param capacity  the most events the log keeps, at least 1
+     */
+    public EventLog(int capacity) {
+        events = new ConcurrentLinkedQueue<Event>();
+        size = new AtomicInteger();
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets instance of EventLog, which is created
+     * once when the class is loaded.
      * (Singleton Design Pattern)
      * @return  instance of EventLog
      */
     public static EventLog getInstance() {
-        if (theLog == null) {
-            theLog = new EventLog();
-        }
-
         return theLog;
     }
 
     /**
-     * Adds an event to the event log.
+     * Adds an event to the event log, dropping the oldest event
+     * if the log is already at its capacity.
      * @param e the event to be added
      */
     public void logEvent(Event e) {
         events.add(e);
+        if (size.incrementAndGet() > capacity && events.poll() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Removes every event from the event log, in the order they
+     * were logged; events logged while draining are either
+     * returned or left for the next drain, never lost.
+     * @return  the events that were removed
+     */
+    public List<Event> drain() {
+        List<Event> drained = new ArrayList<Event>();
+        Event next = events.poll();
+        while (next != null) {
+            size.decrementAndGet();
+            drained.add(next);
+            next = events.poll();
+        }
+        return drained;
     }
 
     /**
      * Clears the event log and logs the event.
      */
     public void clear() {
-        events.clear();
+        drain();
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Gets the number of events in the event log.
+     * @return  the number of events
+     */
+    public int size() {
+        return size.get();
+    }
+
     @Override
     public Iterator<Event> iterator() {
-        return events.iterator();
+        return Collections.unmodifiableCollection(events).iterator();
     }
 }
@@ -0,0 +1,125 @@
+package model.persistence;
+
+import model.configurables.FileLocations;
+import model.goodsandservices.ItemCatalog;
+import model.pets.BreedRegistry;
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+// represents a background service that watches an items file and a directory of breed files for changes
+// and reloads the ItemCatalog and BreedRegistry from those files when they change; every reload builds
+// both catalogs off to the side, the breeds resolved against the new items, and only publishes them once
+// both have loaded, so readers never wait on a reload and never see a catalog that is only partly loaded;
+// the registry is published before the items, so whoever sees the new items also sees the breeds built on them
+public class CatalogService implements Closeable {
+    private static final long SETTLE_MILLIS = 200;
+
+    private final File itemsFile;
+    private final File breedsDir;
+    private final File compiledDir;
+    private final WatchService watchService;
+    private final Thread watcher;
+    private volatile int reloadCount = 0;
+
+    // EFFECTS: constructs a service watching itemsFile and the breed files in breedsDir,
+    //          compiling the catalogs it reloads to compiledDir
+    public CatalogService(File itemsFile, File breedsDir, File compiledDir) throws IOException {
+        this.itemsFile = itemsFile;
+        this.breedsDir = breedsDir;
+        this.compiledDir = compiledDir;
+        watchService = FileSystems.getDefault().newWatchService();
+
+        for (File dataDir : new File[] {itemsFile.getAbsoluteFile().getParentFile(), breedsDir}) {
+            dataDir.toPath().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+
+        watcher = new Thread(this::watch, "CatalogService");
+        watcher.setDaemon(true);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  starts watching for changes in the background
+    public void start() {
+        watcher.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  waits for changes to catalog files and reloads the catalogs after each burst of changes,
+    //           until the service is closed
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(SETTLE_MILLIS);
+                boolean catalogChanged = drainEvents(key);
+
+                for (WatchKey next = watchService.poll(); next != null; next = watchService.poll()) {
+                    catalogChanged |= drainEvents(next);
+                }
+                if (catalogChanged) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException expected) {
+            // the service has been closed
+        }
+    }
+
+    // MODIFIES: key
+    // EFFECTS:  takes the events of key and rearms it, returning true if any event was to a catalog file
+    private static boolean drainEvents(WatchKey key) {
+        boolean catalogChanged = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || (context instanceof Path && context.toString().endsWith(".json"))) {
+                catalogChanged = true;
+            }
+        }
+        key.reset();
+        return catalogChanged;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  loads new snapshots of the ItemCatalog and the BreedRegistry from the watched files
+    //           and publishes them together; if a catalog file cannot be read, such as while it is
+    //           still being written, the current snapshots stay published until the file changes again
+    public synchronized void reload() {
+        try {
+            File compiledItemsFile = new File(compiledDir, new File(FileLocations.compiledItemsDir).getName());
+            ItemCatalog items = ItemCatalog.load(itemsFile, compiledItemsFile);
+            BreedRegistry breeds = BreedRegistry.load(breedsDir, compiledDir, items);
+
+            BreedRegistry.publish(breeds);
+            ItemCatalog.publish(items);
+            reloadCount++;
+        } catch (IOException | JSONException expected) {
+            // keep serving the current snapshots
+        }
+    }
+
+    // EFFECTS: returns the number of reloads that have been published
+    public int getReloadCount() {
+        return reloadCount;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  stops watching for changes
+    @Override
+    public void close() throws IOException {
+        watcher.interrupt();
+        watchService.close();
+    }
+}
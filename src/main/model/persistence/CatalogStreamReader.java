@@ -0,0 +1,97 @@
+package model.persistence;
+
+import org.json.JSONTokener;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+// reads a catalog file of the form {"key": value, ...} as a stream,
+// handing out the entries of its arrays one at a time so that only a single
+// entry is held in memory instead of the whole file and its parsed contents
+public class CatalogStreamReader implements Closeable {
+    private final Reader reader;
+    private final JSONTokener tokener;
+
+    // EFFECTS: constructs a reader positioned at the first key of catalogFile
+    public CatalogStreamReader(File catalogFile) throws IOException {
+        this(new BufferedReader(new InputStreamReader(new FileInputStream(catalogFile), StandardCharsets.UTF_8)));
+    }
+
+    // EFFECTS: constructs a reader positioned at the first key of the catalog read by reader
+    public CatalogStreamReader(Reader reader) {
+        this.reader = reader;
+        this.tokener = new JSONTokener(reader);
+
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A catalog must begin with '{'");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  returns the next key of the catalog, or null if there are no more keys;
+    //           the value of the key must be read with readArray or skipValue before
+    //           the following key is read
+    public String nextKey() {
+        char c = tokener.nextClean();
+
+        if (c == ',') {
+            c = tokener.nextClean();
+        }
+        if (c == '}' || c == 0) {
+            return null;
+        }
+        if (c != '"' && c != '\'') {
+            throw tokener.syntaxError("Expected a key");
+        }
+
+        String key = tokener.nextString(c);
+        if (tokener.nextClean() != ':') {
+            throw tokener.syntaxError("Expected ':' after a key");
+        }
+        return key;
+    }
+
+    // MODIFIES: this
+    // REQUIRES: the value of the last key read is an array
+    // EFFECTS:  reads the array entry by entry, giving each entry to handler as soon as it is read;
+    //           object entries are given as JSONObjects and string entries as Strings
+    public void readArray(Consumer<Object> handler) {
+        if (tokener.nextClean() != '[') {
+            throw tokener.syntaxError("Expected an array");
+        }
+        if (tokener.nextClean() == ']') {
+            return;
+        }
+        tokener.back();
+
+        while (true) {
+            handler.accept(tokener.nextValue());
+
+            char c = tokener.nextClean();
+            if (c == ']') {
+                return;
+            } else if (c != ',') {
+                throw tokener.syntaxError("Expected ',' or ']'");
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  reads past the value of the last key read
+    public void skipValue() {
+        tokener.nextValue();
+    }
+
+    // EFFECTS: closes the underlying file
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
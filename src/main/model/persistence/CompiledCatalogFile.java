@@ -0,0 +1,232 @@
+package model.persistence;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+// represents a catalog file compiled from its JSON source into a compact binary form, read through a
+// memory-mapped FileChannel so records are only paged in when they are decoded; BreedRegistry decodes each
+// breed record the first time that breed is asked for, while ItemCatalog decodes every item record when it
+// loads because its id table and ItemIndex need every item; it is only used while the CRC32 of its source's
+// contents matches the one in its header, so any edit to the source makes it stale whatever its timestamp;
+// the file is laid out as
+//     header:  MAGIC, VERSION, kind, source length, source CRC32,
+//              record count, record width, int pool size, string count
+//     records: fixed-width records of record width ints each
+//     pool:    ints that records point into for variable-length lists
+//     strings: string count + 1 offsets into the UTF-8 bytes that follow them
+public class CompiledCatalogFile {
+    public static final int MAGIC = 0x50504354;
+    public static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 * 3 + 8 * 2 + 4 * 4;
+    private static final int CHECKSUM_BUFFER_BYTES = 8192;
+
+    private final ByteBuffer buffer;
+    private final int recordCount;
+    private final int recordWidth;
+    private final int recordsStart;
+    private final int poolStart;
+    private final int stringOffsetsStart;
+    private final int stringBytesStart;
+
+    // EFFECTS: constructs a view of the compiled catalog held in buffer
+    private CompiledCatalogFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.recordCount = buffer.getInt(28);
+        this.recordWidth = buffer.getInt(32);
+        int poolSize = buffer.getInt(36);
+        int stringCount = buffer.getInt(40);
+
+        this.recordsStart = HEADER_BYTES;
+        this.poolStart = recordsStart + recordCount * recordWidth * 4;
+        this.stringOffsetsStart = poolStart + poolSize * 4;
+        this.stringBytesStart = stringOffsetsStart + (stringCount + 1) * 4;
+    }
+
+    // EFFECTS: maps compiledFile into memory and returns it, or returns null if it is missing,
+    //          of another kind or VERSION, or was not compiled from the current contents of sourceFile
+    public static CompiledCatalogFile open(File compiledFile, File sourceFile, int kind) throws IOException {
+        if (!compiledFile.isFile() || compiledFile.length() < HEADER_BYTES || !sourceFile.isFile()) {
+            return null;
+        }
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(compiledFile.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        boolean isCurrent = buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION && buffer.getInt(8) == kind
+                && buffer.getLong(12) == sourceFile.length() && buffer.getLong(20) == checksumOf(sourceFile);
+        return isCurrent ? new CompiledCatalogFile(buffer) : null;
+    }
+
+    // EFFECTS: returns the CRC32 of the contents of sourceFile, streamed through a fixed-size buffer
+    public static long checksumOf(File sourceFile) throws IOException {
+        byte[] chunk = new byte[CHECKSUM_BUFFER_BYTES];
+
+        try (CheckedInputStream input = new CheckedInputStream(new FileInputStream(sourceFile), new CRC32())) {
+            while (input.read(chunk) != -1) {
+                // the CheckedInputStream updates the CRC32 with every byte read
+            }
+            return input.getChecksum().getValue();
+        }
+    }
+
+    // REQUIRES: 0 <= record < getRecordCount(), and 0 <= field < record width
+    // EFFECTS: returns the given field of the given record
+    public int getRecordInt(int record, int field) {
+        return buffer.getInt(recordsStart + (record * recordWidth + field) * 4);
+    }
+
+    // REQUIRES: 0 <= index < int pool size
+    // EFFECTS: returns the int at index of the int pool
+    public int getPoolInt(int index) {
+        return buffer.getInt(poolStart + index * 4);
+    }
+
+    // REQUIRES: 0 <= index < string count
+    // EFFECTS: returns the string at index of the string table
+    public String getString(int index) {
+        int start = buffer.getInt(stringOffsetsStart + index * 4);
+        int end = buffer.getInt(stringOffsetsStart + (index + 1) * 4);
+        byte[] bytes = new byte[end - start];
+
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(stringBytesStart + start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // GETTERS
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    // represents a compiled catalog that is being built before it is written to disk
+    public static class Builder {
+        private final int kind;
+        private final int recordWidth;
+        private final ArrayList<Integer> records = new ArrayList<>();
+        private final ArrayList<Integer> pool = new ArrayList<>();
+        private final ArrayList<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+
+        // EFFECTS: constructs an empty builder for a catalog of kind with records of recordWidth ints
+        public Builder(int kind, int recordWidth) {
+            this.kind = kind;
+            this.recordWidth = recordWidth;
+        }
+
+        // MODIFIES: this
+        // EFFECTS:  returns the index of str in the string table, adding it if it is not there yet
+        public int addString(String str) {
+            Integer index = stringIndices.get(str);
+
+            if (index == null) {
+                index = strings.size();
+                strings.add(str);
+                stringIndices.put(str, index);
+            }
+            return index;
+        }
+
+        // MODIFIES: this
+        // REQUIRES: fields.length == record width
+        // EFFECTS:  adds a record made of fields
+        public void addRecord(int... fields) {
+            for (int field : fields) {
+                records.add(field);
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS:  adds value to the int pool and returns where it was added
+        public int addPoolInt(int value) {
+            pool.add(value);
+            return pool.size() - 1;
+        }
+
+        // MODIFIES: this
+        // EFFECTS:  adds the string table indices of strs to the int pool and returns where they start
+        public int addPoolStrings(Iterable<String> strs) {
+            int start = pool.size();
+
+            for (String str : strs) {
+                pool.add(addString(str));
+            }
+            return start;
+        }
+
+        // MODIFIES: compiledFile
+        // EFFECTS:  writes the compiled catalog of sourceFile to compiledFile, replacing it atomically
+        public void write(File compiledFile, File sourceFile) throws IOException {
+            ByteBuffer buffer = toBuffer(sourceFile);
+            Path target = compiledFile.toPath();
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), compiledFile.getName(), ".tmp");
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        // EFFECTS: returns the bytes of the compiled catalog of sourceFile
+        private ByteBuffer toBuffer(File sourceFile) throws IOException {
+            ArrayList<byte[]> encoded = new ArrayList<>();
+            int stringBytes = 0;
+            for (String str : strings) {
+                byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                stringBytes += bytes.length;
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + (records.size() + pool.size()
+                    + strings.size() + 1) * 4 + stringBytes);
+            putHeader(buffer, sourceFile);
+            records.forEach(buffer::putInt);
+            pool.forEach(buffer::putInt);
+            putStrings(buffer, encoded);
+            buffer.flip();
+            return buffer;
+        }
+
+        // MODIFIES: buffer
+        // EFFECTS:  writes the header of the compiled catalog of sourceFile to buffer
+        private void putHeader(ByteBuffer buffer, File sourceFile) throws IOException {
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(kind);
+            buffer.putLong(sourceFile.length()).putLong(checksumOf(sourceFile));
+            buffer.putInt(records.size() / recordWidth).putInt(recordWidth);
+            buffer.putInt(pool.size()).putInt(strings.size());
+        }
+
+        // MODIFIES: buffer
+        // EFFECTS:  writes the string offsets followed by the encoded strings to buffer
+        private void putStrings(ByteBuffer buffer, ArrayList<byte[]> encoded) {
+            int offset = 0;
+            buffer.putInt(offset);
+            for (byte[] bytes : encoded) {
+                offset += bytes.length;
+                buffer.putInt(offset);
+            }
+            for (byte[] bytes : encoded) {
+                buffer.put(bytes);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package model.persistence;
 
 import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -67,6 +68,7 @@ public class ConverterJsonArrays {
 
     // EFFECTS: converts a JSONArray to an ArrayList<Item> and returns it
     public static ArrayList<Item> jsonToArrayListItem(JSONArray arrayList) throws IOException {
+        ItemCatalog catalog = ItemCatalog.getInstance();
         ArrayList<Item> itemArray = new ArrayList<>();
 
         for (int i = 0; i < arrayList.length(); i++) {
@@ -74,7 +76,7 @@ public class ConverterJsonArrays {
             String itemName = jsonItem.getString("name");
             String itemType = jsonItem.getString("type");
 
-            Item item = new Item(itemName, itemType);
+            Item item = catalog.getItem(itemName, itemType);
             itemArray.add(item);
         }
 
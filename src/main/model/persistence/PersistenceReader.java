@@ -10,15 +10,20 @@ import org.apache.commons.io.FileUtils;
 import java.io.File;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 
 import model.exceptions.CannotFindSessionIdException;
 
-import ui.app.PixelPetGame;
+import model.GameEngine;
 import model.Player;
 import model.pets.Pet;
 import model.pets.State;
+import model.goodsandservices.LocalShop;
 import model.goodsandservices.Shop;
+import model.goodsandservices.ShopRegistry;
 import model.goodsandservices.Item;
 
 import static model.persistence.ConverterJsonArrays.*;
@@ -31,12 +36,12 @@ public class PersistenceReader {
     private final JSONObject savesData;
     private final JSONArray sessionsArray;
 
-    int id;
+    long id;
     String saveTime;
     JSONObject data;
 
     // EFFECTS: constructs a new persistence reader
-    public PersistenceReader(File persistenceFile, PixelPetGame game, int sessionId)
+    public PersistenceReader(File persistenceFile, GameEngine game, long sessionId)
             throws IOException, CannotFindSessionIdException {
         content = FileUtils.readFileToString(persistenceFile, "utf-8");
         savesData = new JSONObject(content);
@@ -45,7 +50,7 @@ public class PersistenceReader {
     }
 
     // EFFECTS: loads a previous game session
-    private void load(PixelPetGame game, int sessionId) throws CannotFindSessionIdException, IOException {
+    private void load(GameEngine game, long sessionId) throws CannotFindSessionIdException, IOException {
         if (!findBySessionID(sessionId)) {
             throw new CannotFindSessionIdException();
         }
@@ -55,10 +60,7 @@ public class PersistenceReader {
 
         Player player = fetchPlayerData();
         Pet pet = fetchPetData();
-        Shop shop = fetchShopData();
-
-        ArrayList<Shop> shops = new ArrayList<>();
-        shops.add(shop);
+        ShopRegistry shops = fetchShopsData();
 
         game.setSessionId(sessionId);
         game.setPlayer(player);
@@ -70,14 +72,23 @@ public class PersistenceReader {
         eventLog.logEvent(new Event("Loaded game session ID " + sessionId + "."));
     }
 
+    // EFFECTS: returns the whole seconds of wall-clock time since the loaded session was saved,
+    //          or 0 if its save time is later than now
+    public long getSecondsSinceSave() {
+        LocalDateTime savedAt = LocalDateTime.parse(saveTime,
+                DateTimeFormatter.ofPattern(PersistenceWriter.SAVE_TIME_PATTERN));
+
+        return Math.max(0, Duration.between(savedAt, LocalDateTime.now()).getSeconds());
+    }
+
     // EFFECTS: searches for a slot in the persistence data that contains the specified sessionId
     //          returns false if no slot with sessionId is found
-    private boolean findBySessionID(int sessionId) {
+    private boolean findBySessionID(long sessionId) {
         boolean hasFound = false;
 
         for (int i = 0; i < sessionsArray.length(); i++) {
             JSONObject session = sessionsArray.getJSONObject(i);
-            int id = session.getInt("id");
+            long id = session.getLong("id");
 
             if (id == sessionId) {
                 this.id = id;
@@ -163,10 +174,25 @@ public class PersistenceReader {
         return pet;
     }
 
-    // EFFECTS: returns a Shop from the data in Persistence.json
-    private Shop fetchShopData() throws IOException {
-        JSONObject shopObject = data.getJSONObject("shop");
+    // EFFECTS: returns every Shop in the data in Persistence.json;
+    //          sessions saved before there were many shops have a single "shop" instead of "shops"
+    private ShopRegistry fetchShopsData() throws IOException {
+        ShopRegistry shops = new ShopRegistry();
+
+        if (data.has("shops")) {
+            JSONArray shopsArray = data.getJSONArray("shops");
+            for (int i = 0; i < shopsArray.length(); i++) {
+                shops.add(fetchShopData(shopsArray.getJSONObject(i)));
+            }
+        } else {
+            shops.add(fetchShopData(data.getJSONObject("shop")));
+        }
+
+        return shops;
+    }
 
+    // EFFECTS: returns a Shop from the shopObject in Persistence.json
+    private Shop fetchShopData(JSONObject shopObject) throws IOException {
         String shopName = shopObject.getString("name");
         JSONArray shopItemsJson = shopObject.getJSONArray("items");
         JSONArray shopPricesJson = shopObject.getJSONArray("prices");
@@ -176,7 +202,7 @@ public class PersistenceReader {
         ArrayList<Integer> prices = jsonToArrayListInt(shopPricesJson);
         ArrayList<Integer> quantities = jsonToArrayListInt(shopQuantitiesJson);
 
-        Shop shop = new Shop(shopName);
+        Shop shop = new LocalShop(shopName);
         shop.setShopItems(items);
         shop.setPriceOfItems(prices);
         shop.setQuantityInStock(quantities);
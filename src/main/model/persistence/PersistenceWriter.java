@@ -12,10 +12,11 @@ import org.apache.commons.io.FileUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import ui.app.PixelPetGame;
+import model.GameEngine;
 
 // writes data from the game to Persistence.json
 public class PersistenceWriter {
+    public static final String SAVE_TIME_PATTERN = "dd-MM-yyyy HH:mm:ss";
     private static final int INDENT_FCT = 4;
     private final EventLog eventLog = EventLog.getInstance();
 
@@ -26,13 +27,13 @@ public class PersistenceWriter {
     private final FileWriter fileWriter;
     private final JSONObject playerObject;
     private final JSONObject petObject;
-    private final JSONObject shopObject;
+    private final JSONArray shopsArray;
 
-    private final PixelPetGame game;
+    private final GameEngine game;
 
     // EFFECTS: constructs a new persistence
     //          that saves game data to persistenceFile
-    public PersistenceWriter(File persistenceFile, PixelPetGame game) throws IOException {
+    public PersistenceWriter(File persistenceFile, GameEngine game) throws IOException {
         this.game = game;
 
         content = FileUtils.readFileToString(persistenceFile, "utf-8");
@@ -42,7 +43,7 @@ public class PersistenceWriter {
         fileWriter = new FileWriter(persistenceFile);
         playerObject = game.getPlayer().toJsonObj();
         petObject = game.getPet().toJsonObj();
-        shopObject = game.getShopByName("Kira Kira Pets").toJsonObj();
+        shopsArray = game.getShops().toJsonArray();
 
         createObjects();
 
@@ -63,7 +64,7 @@ public class PersistenceWriter {
         JSONObject dataObject = new JSONObject();
         dataObject.put("player", playerObject);
         dataObject.put("pet", petObject);
-        dataObject.put("shop", shopObject);
+        dataObject.put("shops", shopsArray);
         dataObject.put("ticksPassed", game.getTicksPassed());
         dataObject.put("secondsPassed", game.getSecondsPassed());
 
@@ -78,11 +79,11 @@ public class PersistenceWriter {
         for (int i = 0; i < oldSessionsArray.length(); i++) {
             JSONObject session = oldSessionsArray.getJSONObject(i);
 
-            if (game.getSessionId() == session.getInt("id")) {
+            if (game.getSessionId() == session.getLong("id")) {
                 isExisting = true;
                 session.put("data", dataObject);
                 session.put("saveTime", LocalDateTime.now()
-                        .format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss")));
+                        .format(DateTimeFormatter.ofPattern(SAVE_TIME_PATTERN)));
             }
         }
 
@@ -91,7 +92,7 @@ public class PersistenceWriter {
             slotObject.put("data", dataObject);
             slotObject.put("id", game.getSessionId());
             slotObject.put("saveTime", LocalDateTime.now()
-                    .format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss")));
+                    .format(DateTimeFormatter.ofPattern(SAVE_TIME_PATTERN)));
 
             oldSessionsArray.put(slotObject);
         }
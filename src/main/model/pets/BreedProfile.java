@@ -0,0 +1,113 @@
+package model.pets;
+
+import model.goodsandservices.ItemCatalog;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+// represents the immutable data shared by every pet of a breed
+public class BreedProfile {
+    private final String breedName;
+    private final String spriteFilesDir;
+
+    private final List<String> noises;
+    private final List<String> personalities;
+    private final List<String> likes;
+    private final List<String> dislikes;
+    private final List<String> cannotHaves;
+
+    private final BitSet likedItemIds;
+    private final BitSet dislikedItemIds;
+    private final BitSet cannotHaveItemIds;
+    private final ItemEffectTable itemEffects;
+
+    // EFFECTS: constructs a BreedProfile from its breed data and the noises of its animal type,
+    //          resolving its likes, dislikes and cannotHaves to the ids of the items in catalog
+    public BreedProfile(JSONObject breedData, List<String> noises, ItemCatalog catalog) {
+        this(breedData.getString("breedName"), breedData.getString("spriteFilesDir"), noises,
+                jsonArrayToStringList(breedData.getJSONArray("personalities")),
+                jsonArrayToStringList(breedData.getJSONArray("likes")),
+                jsonArrayToStringList(breedData.getJSONArray("dislikes")),
+                jsonArrayToStringList(breedData.getJSONArray("cannotHaves")), catalog);
+    }
+
+    // REQUIRES: noises, personalities, likes, dislikes and cannotHaves are unmodifiable
+    // EFFECTS: constructs a BreedProfile from its already parsed parts, resolving its likes,
+    //          dislikes and cannotHaves to the ids of the items in catalog
+    public BreedProfile(String breedName, String spriteFilesDir, List<String> noises, List<String> personalities,
+                        List<String> likes, List<String> dislikes, List<String> cannotHaves, ItemCatalog catalog) {
+        this.breedName = breedName;
+        this.spriteFilesDir = spriteFilesDir;
+
+        this.noises = noises;
+        this.personalities = personalities;
+        this.likes = likes;
+        this.dislikes = dislikes;
+        this.cannotHaves = cannotHaves;
+
+        this.likedItemIds = catalog.getIdsNamed(likes);
+        this.dislikedItemIds = catalog.getIdsNamed(dislikes);
+        this.cannotHaveItemIds = catalog.getIdsNamed(cannotHaves);
+        this.itemEffects = new ItemEffectTable(catalog, likedItemIds, dislikedItemIds, cannotHaveItemIds);
+    }
+
+    // EFFECTS: returns an unmodifiable list of String parsed from a JSONArray
+    public static List<String> jsonArrayToStringList(JSONArray jsonArr) {
+        ArrayList<String> list = new ArrayList<>();
+
+        for (int i = 0; i < jsonArr.length(); i++) {
+            list.add(jsonArr.getString(i));
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    // GETTERS
+    public String getBreedName() {
+        return breedName;
+    }
+
+    public String getSpriteFilesDir() {
+        return spriteFilesDir;
+    }
+
+    public List<String> getNoises() {
+        return noises;
+    }
+
+    public List<String> getPersonalities() {
+        return personalities;
+    }
+
+    public List<String> getLikes() {
+        return likes;
+    }
+
+    public List<String> getDislikes() {
+        return dislikes;
+    }
+
+    public List<String> getCannotHaves() {
+        return cannotHaves;
+    }
+
+    public ItemEffectTable getItemEffects() {
+        return itemEffects;
+    }
+
+    // the item id sets below are shared with pets of the breed and must not be modified
+    BitSet getLikedItemIds() {
+        return likedItemIds;
+    }
+
+    BitSet getDislikedItemIds() {
+        return dislikedItemIds;
+    }
+
+    BitSet getCannotHaveItemIds() {
+        return cannotHaveItemIds;
+    }
+}
@@ -0,0 +1,277 @@
+package model.pets;
+
+import model.configurables.FileLocations;
+import model.goodsandservices.ItemCatalog;
+import model.persistence.CatalogStreamReader;
+import model.persistence.CompiledCatalogFile;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// represents the breeds of every animal type;
+// each animal type's breed file is compiled to a binary file that later runs map instead of parsing the JSON;
+// a mapped breed file only has its breed names read when it loads, and each breed's record is decoded into
+// a BreedProfile the first time that breed is asked for, so breeds no pet has are never decoded;
+// a breed file that has to be parsed is streamed once and kept as BreedProfiles;
+// the compiled file starts its int pool with the noises as [count, string indices...]
+// and has one record per breed of [name, sprites, then offset and count of each list];
+// each registry reads the breed files in its breeds directory and resolves them against one ItemCatalog;
+// reloading loads a new registry off to the side and publishes it with a single volatile write
+public class BreedRegistry {
+    public static final int COMPILED_KIND = 2;
+    private static final int COMPILED_RECORD_WIDTH = 10;
+
+    private static volatile BreedRegistry theRegistry;
+
+    // represents the breeds of one animal type, decoded from its compiled file as they are asked for
+    private static final class AnimalBreeds {
+        private final List<String> noises;
+        private final Map<String, Integer> recordsByName;
+        private final Map<String, BreedProfile> profiles;
+        private final CompiledCatalogFile compiled;
+        private final ItemCatalog catalog;
+
+        // EFFECTS: constructs the breeds of an animal type from the record of each breed name in compiled,
+        //          which is null if every breed is already in profiles
+        private AnimalBreeds(List<String> noises, Map<String, Integer> recordsByName,
+                             Map<String, BreedProfile> profiles, CompiledCatalogFile compiled, ItemCatalog catalog) {
+            this.noises = noises;
+            this.recordsByName = recordsByName;
+            this.profiles = profiles;
+            this.compiled = compiled;
+            this.catalog = catalog;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: returns the profile of breed, decoding it from its record the first time it is asked for,
+        //          or null if there is no such breed
+        private BreedProfile get(String breed) {
+            BreedProfile profile = profiles.get(breed);
+            Integer record = recordsByName.get(breed);
+
+            if (profile == null && record != null) {
+                profile = profiles.computeIfAbsent(breed, name -> readCompiledBreed(compiled, record, noises, catalog));
+            }
+            return profile;
+        }
+    }
+
+    private final Map<String, AnimalBreeds> breedsByDataDir;
+    private final Map<String, String> animalTypesByDataDir;
+    private final File breedsDir;
+    private final File compiledDir;
+    private final ItemCatalog catalog;
+
+    // EFFECTS: constructs an empty BreedRegistry reading breed files from breedsDir, compiling them to
+    //          compiledDir and resolving them against catalog, or against the current snapshot of the
+    //          ItemCatalog when each animal type is loaded if catalog is null
+    private BreedRegistry(File breedsDir, File compiledDir, ItemCatalog catalog) {
+        breedsByDataDir = new ConcurrentHashMap<>();
+        animalTypesByDataDir = new ConcurrentHashMap<>();
+        this.breedsDir = breedsDir;
+        this.compiledDir = compiledDir;
+        this.catalog = catalog;
+    }
+
+    // EFFECTS: returns the current registry shared by the whole game
+    public static BreedRegistry getInstance() {
+        BreedRegistry registry = theRegistry;
+
+        if (registry == null) {
+            synchronized (BreedRegistry.class) {
+                if (theRegistry == null) {
+                    theRegistry = new BreedRegistry(new File(FileLocations.petBreedsDir),
+                            new File(FileLocations.compiledDir), null);
+                }
+                registry = theRegistry;
+            }
+        }
+        return registry;
+    }
+
+    // EFFECTS: loads every animal type loaded so far into a new registry against the current
+    //          ItemCatalog and publishes it, leaving the current registry untouched if a
+    //          breed file cannot be read
+    public static synchronized BreedRegistry reload() throws IOException {
+        BreedRegistry current = getInstance();
+        BreedRegistry next = load(current.breedsDir, current.compiledDir, ItemCatalog.getInstance());
+        publish(next);
+        return next;
+    }
+
+    // EFFECTS: returns a new registry, without publishing it, that reads breed files from breedsDir,
+    //          compiles them to compiledDir and resolves them against catalog, with every animal type
+    //          loaded so far already loaded
+    public static BreedRegistry load(File breedsDir, File compiledDir, ItemCatalog catalog) throws IOException {
+        BreedRegistry next = new BreedRegistry(breedsDir, compiledDir, catalog);
+
+        for (String animalType : getInstance().animalTypesByDataDir.values()) {
+            next.fetchBreeds(animalType);
+        }
+        return next;
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  publishes registry as the current registry
+    public static synchronized void publish(BreedRegistry registry) {
+        theRegistry = registry;
+    }
+
+    // REQUIRES: the breed file of animalType exists
+    // EFFECTS: returns the profile of breed for animalType, or null if there is no such breed
+    public BreedProfile getBreedProfile(String animalType, String breed) throws IOException {
+        return fetchBreeds(animalType).get(breed);
+    }
+
+    // REQUIRES: the breed file of animalType exists
+    // EFFECTS: returns the unmodifiable list of noises animalType makes
+    public List<String> getNoises(String animalType) throws IOException {
+        return fetchBreeds(animalType).noises;
+    }
+
+    // REQUIRES: the breed file of animalType exists
+    // EFFECTS: returns the names of all breeds of animalType in the order they are listed
+    public ArrayList<String> getBreedNames(String animalType) throws IOException {
+        return new ArrayList<>(fetchBreeds(animalType).recordsByName.keySet());
+    }
+
+    // EFFECTS: returns the ItemCatalog the registry resolves breeds against,
+    //          or null if it resolves each animal type against the snapshot current when it is loaded
+    public ItemCatalog getItemCatalog() {
+        return catalog;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the breeds of animalType, loading them from its breed file
+    //          if they have not been loaded yet
+    private AnimalBreeds fetchBreeds(String animalType) throws IOException {
+        AnimalBreeds breeds = breedsByDataDir.get(FileLocations.getDataDir(animalType));
+        return (breeds == null) ? loadAnimalType(animalType) : breeds;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the breeds of animalType from its breed file unless another thread already has,
+    //          and returns them
+    private synchronized AnimalBreeds loadAnimalType(String animalType) throws IOException {
+        String dataDir = FileLocations.getDataDir(animalType);
+        AnimalBreeds breeds = breedsByDataDir.get(dataDir);
+
+        if (breeds == null) {
+            breeds = loadBreeds(new File(breedsDir, new File(dataDir).getName()),
+                    new File(compiledDir, new File(FileLocations.getCompiledDir(animalType)).getName()),
+                    (catalog == null) ? ItemCatalog.getInstance() : catalog);
+            animalTypesByDataDir.put(dataDir, animalType);
+            breedsByDataDir.put(dataDir, breeds);
+        }
+        return breeds;
+    }
+
+    // REQUIRES: sourceFile exists
+    // EFFECTS: returns the breeds in sourceFile resolved against catalog, mapping them from compiledFile
+    //          instead if that was compiled from the current sourceFile, and compiling them there otherwise
+    private static AnimalBreeds loadBreeds(File sourceFile, File compiledFile, ItemCatalog catalog)
+            throws IOException {
+        CompiledCatalogFile compiled = CompiledCatalogFile.open(compiledFile, sourceFile, COMPILED_KIND);
+
+        if (compiled != null) {
+            return mapCompiledBreeds(compiled, catalog);
+        }
+
+        AnimalBreeds breeds = parseBreedsData(sourceFile, catalog);
+        compileBreeds(breeds.noises, breeds.profiles, compiledFile, sourceFile);
+        return breeds;
+    }
+
+    // EFFECTS: returns the breeds in compiled with only their noises and names read,
+    //          leaving each breed's record to be decoded the first time it is asked for
+    private static AnimalBreeds mapCompiledBreeds(CompiledCatalogFile compiled, ItemCatalog catalog) {
+        List<String> noises = readPoolStrings(compiled, 1, compiled.getPoolInt(0));
+        LinkedHashMap<String, Integer> recordsByName = new LinkedHashMap<>();
+
+        for (int i = 0; i < compiled.getRecordCount(); i++) {
+            recordsByName.put(compiled.getString(compiled.getRecordInt(i, 0)), i);
+        }
+        return new AnimalBreeds(noises, Collections.unmodifiableMap(recordsByName), new ConcurrentHashMap<>(),
+                compiled, catalog);
+    }
+
+    // EFFECTS: returns the BreedProfile decoded from record of compiled, with noises and resolved against catalog
+    private static BreedProfile readCompiledBreed(CompiledCatalogFile compiled, int record, List<String> noises,
+                                                  ItemCatalog catalog) {
+        return new BreedProfile(compiled.getString(compiled.getRecordInt(record, 0)),
+                compiled.getString(compiled.getRecordInt(record, 1)), noises,
+                readPoolStrings(compiled, compiled.getRecordInt(record, 2), compiled.getRecordInt(record, 3)),
+                readPoolStrings(compiled, compiled.getRecordInt(record, 4), compiled.getRecordInt(record, 5)),
+                readPoolStrings(compiled, compiled.getRecordInt(record, 6), compiled.getRecordInt(record, 7)),
+                readPoolStrings(compiled, compiled.getRecordInt(record, 8), compiled.getRecordInt(record, 9)), catalog);
+    }
+
+    // EFFECTS: returns the unmodifiable list of the count strings listed in the int pool of compiled from start
+    private static List<String> readPoolStrings(CompiledCatalogFile compiled, int start, int count) {
+        ArrayList<String> strs = new ArrayList<>(count);
+
+        for (int i = start; i < start + count; i++) {
+            strs.add(compiled.getString(compiled.getPoolInt(i)));
+        }
+        return Collections.unmodifiableList(strs);
+    }
+
+    // EFFECTS: writes noises and breeds to compiledFile as the compiled form of sourceFile;
+    //          the compiled file is only a cache, so failing to write it is ignored
+    private static void compileBreeds(List<String> noises, Map<String, BreedProfile> breeds,
+                                      File compiledFile, File sourceFile) {
+        CompiledCatalogFile.Builder builder = new CompiledCatalogFile.Builder(COMPILED_KIND, COMPILED_RECORD_WIDTH);
+        builder.addPoolInt(noises.size());
+        builder.addPoolStrings(noises);
+
+        for (BreedProfile profile : breeds.values()) {
+            builder.addRecord(builder.addString(profile.getBreedName()),
+                    builder.addString(profile.getSpriteFilesDir()),
+                    builder.addPoolStrings(profile.getPersonalities()), profile.getPersonalities().size(),
+                    builder.addPoolStrings(profile.getLikes()), profile.getLikes().size(),
+                    builder.addPoolStrings(profile.getDislikes()), profile.getDislikes().size(),
+                    builder.addPoolStrings(profile.getCannotHaves()), profile.getCannotHaves().size());
+        }
+
+        try {
+            builder.write(compiledFile, sourceFile);
+        } catch (IOException expected) {
+            // the next load parses the breed file again
+        }
+    }
+
+    // REQUIRES: sourceFile exists
+    // EFFECTS: returns the noises in sourceFile and every breed in it, read one entry at a time into
+    //          a BreedProfile resolved against catalog
+    private static AnimalBreeds parseBreedsData(File sourceFile, ItemCatalog catalog) throws IOException {
+        ArrayList<String> noises = new ArrayList<>();
+        List<String> sharedNoises = Collections.unmodifiableList(noises);
+        LinkedHashMap<String, BreedProfile> breeds = new LinkedHashMap<>();
+        LinkedHashMap<String, Integer> recordsByName = new LinkedHashMap<>();
+
+        try (CatalogStreamReader catalogReader = new CatalogStreamReader(sourceFile)) {
+            for (String key = catalogReader.nextKey(); key != null; key = catalogReader.nextKey()) {
+                if (key.equals("noises")) {
+                    catalogReader.readArray(entry -> noises.add((String) entry));
+                } else if (key.equals("breeds")) {
+                    catalogReader.readArray(entry -> {
+                        BreedProfile profile = new BreedProfile((JSONObject) entry, sharedNoises, catalog);
+                        breeds.put(profile.getBreedName(), profile);
+                        recordsByName.put(profile.getBreedName(), recordsByName.size());
+                    });
+                } else {
+                    catalogReader.skipValue();
+                }
+            }
+        }
+        return new AnimalBreeds(sharedNoises, Collections.unmodifiableMap(recordsByName),
+                Collections.unmodifiableMap(breeds), null, catalog);
+    }
+}
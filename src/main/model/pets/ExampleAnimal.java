@@ -24,7 +24,7 @@ public class ExampleAnimal extends Pet {
     @Override
     public String makeNoise() {
         ArrayList<String> noises = super.getAllNoises();
-        int randomIndex = rng.randomNumberUpTo(noises.size());
+        int randomIndex = getRandomGenerator().randomNumberUpTo(noises.size());
         return noises.get(randomIndex);
     }
 }
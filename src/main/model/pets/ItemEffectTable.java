@@ -0,0 +1,106 @@
+package model.pets;
+
+import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
+
+import java.util.BitSet;
+
+// represents the precomputed effect of every item in the catalog on a pet
+// with a given set of likes, dislikes and cannotHaves;
+// the gains of an item are stored at [id * CARE_STATS] as [happiness, hunger, thirst, health];
+// a table is built from one snapshot of the catalog and has to be rebuilt once another is published
+public class ItemEffectTable {
+    public static final int HAPPINESS = Item.HAPPINESS;
+    public static final int HUNGER = Item.HUNGER;
+    public static final int THIRST = Item.THIRST;
+    public static final int HEALTH = Item.HEALTH;
+    public static final int CARE_STATS = Item.CARE_STATS;
+
+    private final ItemCatalog catalog;
+    private final int[] gains;
+    private final boolean[] lethal;
+    private final State[] consumeStates;
+
+    // EFFECTS: constructs the effect table of every item in catalog for a pet that
+    //          likes, dislikes and cannot have the items with the given ids;
+    //          ids of removed items have no effect
+    public ItemEffectTable(ItemCatalog catalog, BitSet likedIds, BitSet dislikedIds, BitSet cannotHaveIds) {
+        int size = catalog.size();
+        this.catalog = catalog;
+        gains = new int[size * CARE_STATS];
+        lethal = new boolean[size];
+        consumeStates = new State[size];
+
+        for (int id = 0; id < size; id++) {
+            Item item = catalog.getItem(id);
+            if (item == null) {
+                continue;
+            }
+            double multiplier = gainMultiplier(likedIds.get(id), dislikedIds.get(id));
+            int base = id * CARE_STATS;
+
+            gains[base + HAPPINESS] = factorGain(item.getHappinessPoints(), multiplier);
+            gains[base + HUNGER] = factorGain(item.getHungerPoints(), multiplier);
+            gains[base + THIRST] = factorGain(item.getThirstPoints(), multiplier);
+            gains[base + HEALTH] = factorGain(item.getHealthPoints(), multiplier);
+            lethal[id] = cannotHaveIds.get(id);
+            consumeStates[id] = consumeStateOf(item);
+        }
+    }
+
+    // EFFECTS: returns the multiplier applied to the gains of an item,
+    //          where liking an item takes precedence over disliking it
+    public static double gainMultiplier(boolean isLiked, boolean isDisliked) {
+        if (isLiked) {
+            return Pet.likesMultiplier;
+        } else if (isDisliked) {
+            return Pet.dislikesMultiplier;
+        }
+        return 1;
+    }
+
+    // EFFECTS: returns points after the multiplier is applied, truncated towards zero
+    public static int factorGain(int points, double multiplier) {
+        points *= multiplier;
+        return points;
+    }
+
+    // EFFECTS: returns the state a pet takes when consuming item,
+    //          or null if consuming item does not change the pet's state
+    private static State consumeStateOf(Item item) {
+        switch (item.getType()) {
+            case "Toy": return State.PLAYING;
+            case "Food": return State.EATING;
+            default: return null;
+        }
+    }
+
+    // EFFECTS: returns true if the table was built from the given snapshot of the catalog
+    public boolean isBuiltFrom(ItemCatalog catalog) {
+        return this.catalog == catalog;
+    }
+
+    // EFFECTS: returns true if the item with id has an entry in the table
+    public boolean covers(int id) {
+        return id >= 0 && id < lethal.length;
+    }
+
+    // REQUIRES: covers(id)
+    // EFFECTS: returns true if the item with id cannot be given to the pet
+    public boolean isLethal(int id) {
+        return lethal[id];
+    }
+
+    // REQUIRES: covers(id), and 0 <= careStat < CARE_STATS
+    // EFFECTS: returns the gain of careStat when the pet consumes the item with id
+    public int getGain(int id, int careStat) {
+        return gains[id * CARE_STATS + careStat];
+    }
+
+    // REQUIRES: covers(id)
+    // EFFECTS: returns the state the pet takes when consuming the item with id,
+    //          or null if its state does not change
+    public State getConsumeState(int id) {
+        return consumeStates[id];
+    }
+}
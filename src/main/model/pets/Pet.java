@@ -3,23 +3,33 @@ package model.pets;
 import model.configurables.FileLocations;
 import model.configurables.RandomGenerator;
 import model.persistence.Writable;
-import org.apache.commons.io.FileUtils;
-import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
 
 import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
 
-import static ui.app.PixelPetGame.*;
+import static model.GameEngine.*;
 
-// represents an abstract pet
+// represents an abstract pet;
+// the breed's data is shared through its BreedProfile and a pet only
+// holds its own copy of a list once that list is changed for the pet;
+// the getters return read-only views, so the lists only change through the pet's own mutators;
+// likes, dislikes and cannotHaves are also kept as sets of item ids for constant-time checks,
+// and the effect of consuming each item is read from a precomputed ItemEffectTable,
+// which the pet rebuilds the first time it consumes an item after a new ItemCatalog snapshot is published
 public abstract class Pet implements Writable {
-    public final double likesMultiplier = 1.1;
-    public final double dislikesMultiplier = 0.5;
+    private static final BitSet NO_ITEM_IDS = new BitSet(0);
+
+    public static final double likesMultiplier = 1.1;
+    public static final double dislikesMultiplier = 0.5;
 
     private File petDataDir;
     private String spritesDir;
@@ -29,11 +39,18 @@ public abstract class Pet implements Writable {
     private String breed;
     private State state;
 
-    private ArrayList<String> allNoises;
-    private ArrayList<String> personalities;
-    private ArrayList<String> likes;
-    private ArrayList<String> dislikes;
-    private ArrayList<String> cannotHaves;
+    private BreedProfile breedProfile;
+    private List<String> allNoises;
+    private List<String> personalities;
+    private List<String> likes;
+    private List<String> dislikes;
+    private List<String> cannotHaves;
+
+    private ItemCatalog itemCatalog;
+    private BitSet likedItemIds;
+    private BitSet dislikedItemIds;
+    private BitSet cannotHaveItemIds;
+    private ItemEffectTable itemEffects;
 
     private int age;
     private int happiness;
@@ -41,18 +58,23 @@ public abstract class Pet implements Writable {
     private int thirst;
     private int health;
     private int numWaste;
+    private RandomGenerator rng;
 
-    protected final FileLocations fileLoc = new FileLocations();
-    protected final RandomGenerator rng = new RandomGenerator();
+    protected static final FileLocations fileLoc = new FileLocations();
 
     // EFFECTS: constructs a new pet with name
     public Pet(String name) {
         this.name = name;
         this.state = State.IDLING;
-
-        this.personalities = new ArrayList<>();
-        this.likes = new ArrayList<>();
-        this.dislikes = new ArrayList<>();
+        this.rng = new RandomGenerator();
+        this.allNoises = Collections.emptyList();
+        this.personalities = Collections.emptyList();
+        this.likes = Collections.emptyList();
+        this.dislikes = Collections.emptyList();
+        this.cannotHaves = Collections.emptyList();
+        this.likedItemIds = NO_ITEM_IDS;
+        this.dislikedItemIds = NO_ITEM_IDS;
+        this.cannotHaveItemIds = NO_ITEM_IDS;
 
         this.age = 0;
         this.happiness = 100;
@@ -68,45 +90,53 @@ public abstract class Pet implements Writable {
     // EFFECTS:  changes the pet's state depending on the item type
     //           and consumes item, affecting care levels
     public void consumeItem(Item item) {
-        if (item.getType().equals("Toy")) {
-            setState(State.PLAYING);
-        } else if (item.getType().equals("Food")) {
-            setState(State.EATING);
+        consumeItems(item, 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS:  changes the pet's state depending on the item type and consumes
+    //           quantity of item at once; care levels end up exactly as if
+    //           consumeItem(item) had been called quantity times
+    public void consumeItems(Item item, int quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+
+        int id = item.getId();
+        ItemCatalog current = ItemCatalog.getLoadedInstance();
+        if (!itemEffects.covers(id) || (current != null && !itemEffects.isBuiltFrom(current))) {
+            catchUpWithCatalog();
+        }
+        State consumeState = itemEffects.getConsumeState(id);
+
+        if (consumeState != null) {
+            setState(consumeState);
         }
 
-        if (checkIfCannotHave(item)) {
+        if (itemEffects.isLethal(id)) {
             setHealth(-999);
         } else {
-            ArrayList<Integer> newGains = factorGainMultipliers(item);
-            incrementCareLevels(newGains.get(0), newGains.get(1), newGains.get(2), newGains.get(3));
+            happiness = repeatGain(happiness, itemEffects.getGain(id, ItemEffectTable.HAPPINESS),
+                    quantity, MAX_HAPPINESS);
+            hunger = repeatGain(hunger, itemEffects.getGain(id, ItemEffectTable.HUNGER), quantity, MAX_HUNGER);
+            thirst = repeatGain(thirst, itemEffects.getGain(id, ItemEffectTable.THIRST), quantity, MAX_THIRST);
+            health = repeatGain(health, itemEffects.getGain(id, ItemEffectTable.HEALTH), quantity, MAX_HEALTH);
         }
     }
 
-    // EFFECTS:  returns the modified gain values of an item as a list after
-    //           taking into account the pet's likes/dislikes/cannotHaves
-    //           formatted as [happiness, hunger, thirst, health] gains
-    private ArrayList<Integer> factorGainMultipliers(Item item) {
-        int happinessGain = item.getHappinessPoints();
-        int hungerGain = item.getHungerPoints();
-        int thirstGain = item.getThirstPoints();
-        int healthGain = item.getHealthPoints();
-
-        if (checkIfLikes(item)) {
-            happinessGain *= likesMultiplier;
-            hungerGain *= likesMultiplier;
-            thirstGain *= likesMultiplier;
-            healthGain *= likesMultiplier;
-        } else if (checkIfDislikes(item)) {
-            happinessGain *= dislikesMultiplier;
-            hungerGain *= dislikesMultiplier;
-            thirstGain *= dislikesMultiplier;
-            healthGain *= dislikesMultiplier;
-        }
+    // REQUIRES: times > 0
+    // EFFECTS:  returns level after gain has been added to it times times,
+    //           capping it at max after every addition like incrementCareLevels
+    private static int repeatGain(int level, int gain, int times, int max) {
+        long first = Math.min(max, (long) level + gain);
+        long last = first + (long) (times - 1) * gain;
 
-        return new ArrayList<>(Arrays.asList(happinessGain, hungerGain, thirstGain, healthGain));
+        if (gain >= 0) {
+            last = Math.min(max, last);
+        }
+        return (int) Math.max(Integer.MIN_VALUE, last);
     }
 
-
     // MODIFIES: this
     // REQUIRES: numWaste > 0
     // EFFECTS:  adds count to numWaste
@@ -123,17 +153,17 @@ public abstract class Pet implements Writable {
 
     // EFFECTS: returns true if item is liked by pet
     public boolean checkIfLikes(Item item) {
-        return likes.contains(item.getName());
+        return likedItemIds.get(item.getId());
     }
 
     // EFFECTS: returns true if item is disliked by pet
     public boolean checkIfDislikes(Item item) {
-        return dislikes.contains(item.getName());
+        return dislikedItemIds.get(item.getId());
     }
 
     // EFFECTS: returns true if item cannot be given to the pet
     public boolean checkIfCannotHave(Item item) {
-        return cannotHaves.contains(item.getName());
+        return cannotHaveItemIds.get(item.getId());
     }
 
     // EFFECTS: returns true if pet is dead
@@ -200,102 +230,170 @@ public abstract class Pet implements Writable {
     // MODIFIES: this
     // EFFECTS:  adds a personality to pet's personalities
     public void addPersonality(String personality) {
-        personalities.add(personality);
+        ArrayList<String> ownPersonalities = ownCopyOf(personalities);
+        ownPersonalities.add(personality);
+        personalities = ownPersonalities;
     }
 
     // MODIFIES: this
     // EFFECTS:  removes a personality from pet's personalities
     public void removePersonality(String personality) {
-        personalities.remove(personality);
+        ArrayList<String> ownPersonalities = ownCopyOf(personalities);
+        ownPersonalities.remove(personality);
+        personalities = ownPersonalities;
     }
 
     // MODIFIES: this
     // EFFECTS:  adds a like to pet's likes
     public void addLikes(String like) {
-        likes.add(like);
+        ArrayList<String> ownLikes = ownCopyOf(likes);
+        ownLikes.add(like);
+        setLikes(ownLikes);
     }
 
     // MODIFIES: this
     // EFFECTS:  removes a like from pet's likes
     public void removeLikes(String like) {
-        likes.remove(like);
+        ArrayList<String> ownLikes = ownCopyOf(likes);
+        ownLikes.remove(like);
+        setLikes(ownLikes);
     }
 
     // MODIFIES: this
     // EFFECTS:  adds a dislike to pet's dislikes
     public void addDislikes(String dislike) {
-        dislikes.add(dislike);
+        ArrayList<String> ownDislikes = ownCopyOf(dislikes);
+        ownDislikes.add(dislike);
+        setDislikes(ownDislikes);
     }
 
     // MODIFIES: this
     // EFFECTS:  removes a dislike from pet's dislikes
     public void removeDislikes(String dislike) {
-        dislikes.remove(dislike);
+        ArrayList<String> ownDislikes = ownCopyOf(dislikes);
+        ownDislikes.remove(dislike);
+        setDislikes(ownDislikes);
     }
 
     // MODIFIES: this
     // EFFECTS:  adds a cannotHave to pet's cannotHaves
     public void addCannotHaves(String cannotHave) {
-        cannotHaves.add(cannotHave);
+        ArrayList<String> ownCannotHaves = ownCopyOf(cannotHaves);
+        ownCannotHaves.add(cannotHave);
+        setCannotHaves(ownCannotHaves);
     }
 
     // MODIFIES: this
     // EFFECTS:  removes a cannotHave from pet's cannotHaves
     public void removeCannotHaves(String cannotHave) {
-        cannotHaves.remove(cannotHave);
+        ArrayList<String> ownCannotHaves = ownCopyOf(cannotHaves);
+        ownCannotHaves.remove(cannotHave);
+        setCannotHaves(ownCannotHaves);
     }
 
     // MODIFIES: this
-    // REQUIRES: petDataDir exists
-    // EFFECTS:  gathers data from petDataDir, parses it, and then stores it
+    // REQUIRES: animalType and breed are set
+    // EFFECTS:  gathers the breed's data from the BreedRegistry and stores it
     protected void gatherPetData() throws IOException {
-        String content = FileUtils.readFileToString(this.getPetDataDir(), "utf-8");
-        JSONObject data = new JSONObject(content);
+        itemCatalog = ItemCatalog.getInstance();
+        BreedProfile profile = BreedRegistry.getInstance().getBreedProfile(getAnimalType(), getBreed());
+        allNoises = BreedRegistry.getInstance().getNoises(getAnimalType());
 
-        JSONArray noisesArray = data.getJSONArray("noises");
-        allNoises = new ArrayList<>();
-        for (int i = 0; i < noisesArray.length(); i++) {
-            allNoises.add(noisesArray.getString(i));
+        if (profile != null) {
+            parseBreedProfile(profile);
+        } else {
+            rebuildItemEffects();
         }
+    }
+
+    // MODIFIES: this
+    // REQUIRES: profile is not null
+    // EFFECTS:  shares the data of profile with this pet
+    protected void parseBreedProfile(BreedProfile profile) {
+        shareBreedProfile(profile);
+        this.setSpritesDir(this.getSpritesDir() + profile.getSpriteFilesDir() + "/");
+    }
 
-        JSONArray breedsArray = data.getJSONArray("breeds");
-        for (int i = 0; i < breedsArray.length(); i++) {
-            JSONObject breedData = breedsArray.getJSONObject(i);
-            String breedName = breedData.getString("breedName");
+    // MODIFIES: this
+    // REQUIRES: profile is not null
+    // EFFECTS:  shares the lists, item ids and effect table of profile with this pet,
+    //           keeping the pet's own personalities if it has any
+    private void shareBreedProfile(BreedProfile profile) {
+        if (breedProfile == null || personalities == breedProfile.getPersonalities()) {
+            this.personalities = profile.getPersonalities();
+        }
+        this.breedProfile = profile;
+        this.likes = profile.getLikes();
+        this.dislikes = profile.getDislikes();
+        this.cannotHaves = profile.getCannotHaves();
+        this.likedItemIds = profile.getLikedItemIds();
+        this.dislikedItemIds = profile.getDislikedItemIds();
+        this.cannotHaveItemIds = profile.getCannotHaveItemIds();
+        this.itemEffects = profile.getItemEffects();
+    }
 
-            if (breedName.equals(this.getBreed())) {
-                parseBreedData(breedData);
-                // break; // commented out for code coverage...
-            }
+    // MODIFIES: this
+    // EFFECTS:  builds the pet's own effect table from its current likes, dislikes and cannotHaves
+    private void rebuildItemEffects() {
+        if (itemCatalog != null) {
+            itemEffects = new ItemEffectTable(itemCatalog, likedItemIds, dislikedItemIds, cannotHaveItemIds);
         }
     }
 
     // MODIFIES: this
-    // REQUIRES: data contains breed data and is not null
-    // EFFECTS:  parses the data and assigns corresponding variables the data contained
-    protected void parseBreedData(JSONObject data) {
-        JSONArray personalities = data.getJSONArray("personalities");
-        JSONArray likes = data.getJSONArray("likes");
-        JSONArray dislikes = data.getJSONArray("dislikes");
-        JSONArray cannotHaves = data.getJSONArray("cannotHaves");
+    // EFFECTS:  catches the pet up with the current snapshot of the ItemCatalog, picking up items
+    //           added, removed or changed since its effect table was built; a pet that still shares
+    //           its breed's lists shares the reloaded profile of its breed, and only a pet with its
+    //           own likes, dislikes or cannotHaves resolves them and builds its own effect table
+    private void catchUpWithCatalog() {
+        try {
+            itemCatalog = ItemCatalog.getInstance();
+        } catch (IOException expected) {
+            // an item only has an id once the catalog has been loaded
+        }
+        BreedProfile reloaded = reloadedBreedProfile();
 
-        this.setPersonalities(jsonArrayToStringList(personalities));
-        this.setLikes(jsonArrayToStringList(likes));
-        this.setDislikes(jsonArrayToStringList(dislikes));
-        this.setCannotHaves(jsonArrayToStringList(cannotHaves));
+        if (reloaded != null) {
+            shareBreedProfile(reloaded);
+        } else {
+            likedItemIds = itemIdsNamed(likes);
+            dislikedItemIds = itemIdsNamed(dislikes);
+            cannotHaveItemIds = itemIdsNamed(cannotHaves);
+            rebuildItemEffects();
+        }
+    }
 
-        this.setSpritesDir(this.getSpritesDir() + data.getString("spriteFilesDir") + "/");
+    // EFFECTS: returns the profile of the pet's breed in the current BreedRegistry if the pet still shares
+    //          the likes, dislikes and cannotHaves of its breed and that profile was resolved against the
+    //          pet's ItemCatalog, otherwise returns null
+    private BreedProfile reloadedBreedProfile() {
+        if (breedProfile == null || itemCatalog == null || likes != breedProfile.getLikes()
+                || dislikes != breedProfile.getDislikes() || cannotHaves != breedProfile.getCannotHaves()) {
+            return null;
+        }
+        try {
+            BreedProfile profile = BreedRegistry.getInstance().getBreedProfile(getAnimalType(), getBreed());
+            return (profile != null && profile.getItemEffects().isBuiltFrom(itemCatalog)) ? profile : null;
+        } catch (IOException expected) {
+            return null;
+        }
     }
 
-    // EFFECTS: returns a list of String parsed from a JSONArray
-    private ArrayList<String> jsonArrayToStringList(JSONArray jsonArr) {
-        ArrayList<String> list = new ArrayList<>();
+    // EFFECTS: returns the set of ids of the items named in names
+    private BitSet itemIdsNamed(List<String> names) {
+        if (itemCatalog == null || names.isEmpty()) {
+            return NO_ITEM_IDS;
+        }
+        return itemCatalog.getIdsNamed(names);
+    }
 
-        for (int i = 0; i < jsonArr.length(); i++) {
-            String str = jsonArr.getString(i);
-            list.add(str);
+    // EFFECTS: returns list if it is already the pet's own list,
+    //          otherwise returns a modifiable copy of the shared list
+    private static ArrayList<String> ownCopyOf(List<String> list) {
+        if (list instanceof ArrayList) {
+            return (ArrayList<String>) list;
         }
-        return list;
+        return new ArrayList<>(list);
     }
 
     // EFFECTS: converts all pet data to a JSONObject and returns it
@@ -348,24 +446,34 @@ public abstract class Pet implements Writable {
         return this.state;
     }
 
+    public BreedProfile getBreedProfile() {
+        return breedProfile;
+    }
+
+    // EFFECTS: returns a copy of the noises the pet's animal type makes
     public ArrayList<String> getAllNoises() {
-        return allNoises;
+        return new ArrayList<>(allNoises);
     }
 
-    public ArrayList<String> getPersonalities() {
-        return this.personalities;
+    // EFFECTS: returns a read-only view of the pet's personalities;
+    //          change them with addPersonality and removePersonality
+    public List<String> getPersonalities() {
+        return Collections.unmodifiableList(this.personalities);
     }
 
-    public ArrayList<String> getLikes() {
-        return this.likes;
+    // EFFECTS: returns a read-only view of the pet's likes; change them with addLikes and removeLikes
+    public List<String> getLikes() {
+        return Collections.unmodifiableList(this.likes);
     }
 
-    public ArrayList<String> getDislikes() {
-        return this.dislikes;
+    // EFFECTS: returns a read-only view of the pet's dislikes; change them with addDislikes and removeDislikes
+    public List<String> getDislikes() {
+        return Collections.unmodifiableList(this.dislikes);
     }
 
-    public ArrayList<String> getCannotHaves() {
-        return this.cannotHaves;
+    // EFFECTS: returns a read-only view of the pet's cannotHaves; change them with addCannotHaves and removeCannotHaves
+    public List<String> getCannotHaves() {
+        return Collections.unmodifiableList(this.cannotHaves);
     }
 
     public int getAge() {
@@ -392,7 +500,16 @@ public abstract class Pet implements Writable {
         return numWaste;
     }
 
+    protected RandomGenerator getRandomGenerator() {
+        return rng;
+    }
+
     // SETTERS
+    // a pet in a game draws its random choices from that game's generator
+    public void setRandomGenerator(RandomGenerator rng) {
+        this.rng = rng;
+    }
+
     protected void setPetDataDir(File petDataDir) {
         this.petDataDir = petDataDir;
     }
@@ -423,14 +540,20 @@ public abstract class Pet implements Writable {
 
     public void setLikes(ArrayList<String> likes) {
         this.likes = likes;
+        this.likedItemIds = itemIdsNamed(likes);
+        rebuildItemEffects();
     }
 
     public void setDislikes(ArrayList<String> dislikes) {
         this.dislikes = dislikes;
+        this.dislikedItemIds = itemIdsNamed(dislikes);
+        rebuildItemEffects();
     }
 
     public void setCannotHaves(ArrayList<String> cannotHave) {
         this.cannotHaves = cannotHave;
+        this.cannotHaveItemIds = itemIdsNamed(cannotHave);
+        rebuildItemEffects();
     }
 
     public void setAge(int age) {
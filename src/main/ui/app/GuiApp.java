@@ -7,12 +7,17 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 
+import model.GameEngine;
+import model.GameSnapshot;
 import model.Player;
+import model.SimulationLoop;
 import model.configurables.FileLocations;
 import model.exceptions.CannotFindSessionIdException;
 import model.logger.Event;
 import model.logger.EventLog;
+import model.persistence.CatalogService;
 import model.pets.Pet;
+import model.pets.State;
 
 import ui.menus.ingame.*;
 import ui.menus.mainmenu.MainMenu;
@@ -31,16 +36,18 @@ public class GuiApp extends JFrame {
     private final EventLog eventLog = EventLog.getInstance();
 
     private static final String gameTitle = "Pixel Pet";
+    private static final long NANOS_PER_TICK = 1000000000L / PixelPetGame.TICKS_PER_SECOND;
+    private static final int MAX_CATCH_UP_TICKS = 10 * PixelPetGame.TICKS_PER_SECOND;
 //    private final File audioFile = new File("data/");
 //    AudioInputStream bgm;
 
     private Timer timer;
+    private CatalogService catalogService;
+    private SimulationLoop simulation;
     private PixelPetGame game;
     private Player player;
     private Pet pet;
 
-    private int secondsPassed;
-
     private JPanel window;
     private JLayeredPane content;
     private JLayeredPane menu;
@@ -102,12 +109,21 @@ public class GuiApp extends JFrame {
         addWindowListener(windowListener);
 
         setUpRequiredInterfaces();
+        startCatalogService();
         startTimer();
 
         new MainMenu(this, menu);
         setLocationRelativeTo(null);
     }
 
+    // MODIFIES: this
+    // EFFECTS:  starts reloading the item and breed catalogs whenever their files change
+    private void startCatalogService() throws IOException {
+        catalogService = new CatalogService(new File(FileLocations.itemsDir), new File(FileLocations.petBreedsDir),
+                new File(FileLocations.compiledDir));
+        catalogService.start();
+    }
+
     // EFFECTS: creates/instantiates the window, content, and menu panels
     private void setUpRequiredInterfaces() throws IOException {
         window = ((JPanel) getContentPane());
@@ -140,6 +156,7 @@ public class GuiApp extends JFrame {
 
     // EFFECTS: clears out any ongoing session and returns to the main menu
     public void returnToMainMenu() throws IOException, FontFormatException {
+        stopSimulation();
         gameMenu = null;
         super.setTitle(gameTitle);
         new MainMenu(this, menu);
@@ -154,7 +171,7 @@ public class GuiApp extends JFrame {
     }
 
     // MODIFIES: this
-    // EFFECTS: creates a new instance of PixelPetGame
+    // EFFECTS: creates a new instance of PixelPetGame and starts running it on its simulation thread
     public void start(boolean isForTest, boolean isNewSession) throws IOException,
             CannotFindSessionIdException, FontFormatException {
         if (isNewSession) {
@@ -162,23 +179,38 @@ public class GuiApp extends JFrame {
         }
 
         super.setTitle(gameTitle + " - Session ID: " + game.getSessionId());
+        stopSimulation();
+        simulation = new SimulationLoop(game, NANOS_PER_TICK, MAX_CATCH_UP_TICKS);
         gameMenu = new GameMenu(this, menu);
+        simulation.start();
     }
 
-    // EFFECTS: begins the ticking process; game is running
+    // MODIFIES: this
+    // EFFECTS:  stops the simulation thread, if there is one, moves the events of its game into the event log,
+    //           and logs how closely it kept to real time
+    private void stopSimulation() {
+        if (simulation == null) {
+            return;
+        }
+
+        simulation.stop();
+        collectEvents(simulation.getEngine());
+        eventLog.logEvent(new Event("Simulation stopped after " + simulation.getTicksRun() + " ticks ("
+                + simulation.getTicksDropped() + " dropped, " + simulation.getDriftNanos() / 1000000
+                + " ms behind real time)."));
+        simulation = null;
+    }
+
+    // EFFECTS: begins redrawing the game from its published snapshots;
+    //          the game itself runs on the simulation thread
     private void startTimer() {
-        secondsPassed = 0;
         timer = new Timer(1000 / PixelPetGame.TICKS_PER_SECOND, ae -> {
-            if (!(game == null || gameMenu == null)) {
-                tick();
+            if (!(simulation == null || gameMenu == null)) {
+                GameSnapshot snapshot = simulation.getSnapshot();
+                render(snapshot);
 
-                if (secondsPassed < game.getSecondsPassed()) {
-                    //
-                }
-                secondsPassed = game.getSecondsPassed();
-
-                if (game.isEnded() && game.getPet().checkIsDead()) {
-                    System.out.println("Oh no! " + pet.getName() + " has died!");
+                if (snapshot.isEnded() && snapshot.getPetState() == State.DEAD) {
+                    System.out.println("Oh no! " + snapshot.getPetName() + " has died!");
                     System.out.println("How unfortunate...");
                     try {
                         Thread.sleep(2500L);
@@ -194,20 +226,14 @@ public class GuiApp extends JFrame {
         timer.start();
     }
 
-    // EFFECTS: adds one tick to the game; proceeds the game
-    private void tick() {
-        game.tick();
-        render();
-    }
-
     // MODIFIES: gameMenu, petEnvironment
-    // EFFECTS: renders the in-game graphics
-    private void render() {
-        if (game.isEnded()) {
+    // EFFECTS: renders the in-game graphics from snapshot
+    private void render(GameSnapshot snapshot) {
+        if (snapshot.isEnded()) {
             return;
         }
 
-        gameMenu.renderGraphics(game);
+        gameMenu.renderGraphics(snapshot);
         getContentPane().repaint();
     }
 
@@ -215,11 +241,22 @@ public class GuiApp extends JFrame {
     // EFFECTS: prints out all the events that have occurred since the beginning
     //          of the game to the console
     private void logAllEvents() {
+        if (game != null) {
+            collectEvents(game);
+        }
         for (Event event : eventLog) {
             System.out.println(event.toString() + "\n");
         }
     }
 
+    // MODIFIES: this
+    // EFFECTS:  moves every event logged by the session of engine into the event log
+    private void collectEvents(GameEngine engine) {
+        for (Event event : engine.getPlayer().getEventLog().drain()) {
+            eventLog.logEvent(event);
+        }
+    }
+
     // GETTERS:
     @Override
     public int getWidth() {
@@ -235,6 +272,10 @@ public class GuiApp extends JFrame {
         return game;
     }
 
+    public SimulationLoop getSimulation() {
+        return simulation;
+    }
+
     public Player getPlayer() {
         return player;
     }
@@ -1,8 +1,8 @@
 package ui.menus.ingame;
 
+import model.GameSnapshot;
 import model.configurables.FileLocations;
 import ui.app.GuiApp;
-import ui.app.PixelPetGame;
 import ui.menus.Menu;
 
 import javax.swing.*;
@@ -167,13 +167,13 @@ public class GameMenu extends Menu {
 
     // MODIFIES: this
     // EFFECTS: renders the ui graphics for the gameMenu
-    public void renderGraphics(PixelPetGame game) {
+    public void renderGraphics(GameSnapshot snapshot) {
 //        petEnvironment.renderGraphics(game);
 
         if (hasAssetsLoaded) {
-            PetStatsMenu.updatePetStats(ui);
-            ShopMenu.updateShopMenu(ui);
-            InventoryMenu.updateInventoryMenu(ui);
+            PetStatsMenu.updatePetStats(snapshot);
+            ShopMenu.updateShopMenu(snapshot);
+            InventoryMenu.updateInventoryMenu(snapshot);
         }
     }
 
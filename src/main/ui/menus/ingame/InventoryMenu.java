@@ -1,8 +1,7 @@
 package ui.menus.ingame;
 
-import model.Player;
+import model.GameSnapshot;
 import model.goodsandservices.Item;
-import model.pets.Pet;
 import ui.app.GuiApp;
 
 import javax.swing.*;
@@ -13,6 +12,7 @@ import java.awt.event.ActionListener;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static ui.configurables.InterfaceAesthetics.*;
 import static ui.configurables.JComponentBuilder.*;
@@ -72,9 +72,9 @@ public class InventoryMenu {
     // EFFECTS: creates the inventory item buttons
     public static void createInventoryItemsPanel(GuiApp ui, int width, float fontSize)
             throws IOException, FontFormatException {
-        Player player = ui.getGame().getPlayer();
-        ArrayList<Item> items = player.getInventory();
-        ArrayList<Integer> quantities = player.getInventoryQuantity();
+        GameSnapshot snapshot = ui.getSimulation().getSnapshot();
+        List<Item> items = snapshot.getInventoryItems();
+        List<Integer> quantities = snapshot.getInventoryCounts();
 
         inventoryItemsContainer.removeAll();
         for (int i = 0; i < items.size(); i++) {
@@ -150,7 +150,7 @@ public class InventoryMenu {
         useButton.setBackground(BUTTON_COLOR_2);
         inventoryItemUseButtonContainer.add(useButton);
 
-        inventoryPlayerMoneyText = createJTextArea("Money: " + ui.getGame().getPlayer().getMoney(),
+        inventoryPlayerMoneyText = createJTextArea("Money: " + ui.getSimulation().getSnapshot().getMoney(),
                 fontSize, width / 2, 50);
 
         inventoryItemInfoContainer = createJPanel(GAME_BAR_UI_COLOR,width - 200, (50 + 8 + 5) * 4);
@@ -160,20 +160,19 @@ public class InventoryMenu {
     }
 
     // EFFECTS: updates the shop menu ui
-    public static void updateInventoryMenu(GuiApp ui) {
-        inventoryPlayerMoneyText.setText("Money: $" + ui.getGame().getPlayer().getMoney());
+    public static void updateInventoryMenu(GameSnapshot snapshot) {
+        inventoryPlayerMoneyText.setText("Money: $" + snapshot.getMoney());
     }
 
     // EFFECTS: checks to see if giving the item is valid,
-    //          then handles the player-to-pet transaction if valid
-    public static void giveItemToPet(GuiApp ui) {
-        Player player = ui.getGame().getPlayer();
-        Pet pet = ui.getGame().getPet();
-        Item itemToCheck = ShopMenu.validItem(player.getInventory(),
-                inventorySelectedItemName, inventorySelectedItemType);
-
-        if (itemToCheck != null && player.giveItemTo(itemToCheck, pet, 1)) {
-            // successfully gave item
-        }
+    //          then handles the player-to-pet transaction on the simulation thread if valid
+    public static void giveItemToPet(GuiApp ui) throws IOException {
+        String itemName = inventorySelectedItemName;
+        String itemType = inventorySelectedItemType;
+
+        ui.getSimulation().call(engine -> {
+            Item itemToCheck = ShopMenu.validItem(engine.getPlayer().getInventory(), itemName, itemType);
+            return itemToCheck != null && engine.getPlayer().giveItemTo(itemToCheck, engine.getPet(), 1);
+        });
     }
 }
@@ -81,7 +81,7 @@ public class PetEnvironment extends JPanel {
                 .getScaledInstance(100, 100, Image.SCALE_SMOOTH);
 
         try {
-            bufferedImage = ImageIO.read(new File(ui.getGame().getPet().getSpritesDir() + "Idle.png"));
+            bufferedImage = ImageIO.read(new File(ui.getSimulation().getSnapshot().getPetSpritesDir() + "Idle.png"));
             petImg = new ImageIcon(bufferedImage).getImage()
                     .getScaledInstance(100, 100, Image.SCALE_SMOOTH);
         } catch (IOException e) {
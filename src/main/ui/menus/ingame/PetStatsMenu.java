@@ -1,5 +1,6 @@
 package ui.menus.ingame;
 
+import model.GameSnapshot;
 import ui.app.GuiApp;
 import ui.app.PixelPetGame;
 
@@ -7,7 +8,7 @@ import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
 
 import static ui.configurables.InterfaceAesthetics.*;
 import static ui.configurables.JComponentBuilder.*;
@@ -35,7 +36,7 @@ public class PetStatsMenu {
     private static JTextArea personalitiesText;
     private static JTextArea cannotHavesText;
 
-    // EFFECTS: generates pet stats menu
+    // EFFECTS: generates pet stats menu from the latest snapshot of the game
     public static void generatePetStats(GuiApp ui, JLayeredPane menu, GameMenu gameMenu,
                                         JPanel promptContainer, int width, int height)
             throws IOException, FontFormatException {
@@ -49,9 +50,10 @@ public class PetStatsMenu {
         JPanel backButtonContainer = createJPanel(TRANSPARENT, width, 48);
         backButtonContainer.add(backButton);
 
-        generateGeneral(ui, width);
-        generateCareLevels(ui, width);
-        generateCharacteristics(ui, width);
+        GameSnapshot snapshot = ui.getSimulation().getSnapshot();
+        generateGeneral(snapshot, width);
+        generateCareLevels(snapshot, width);
+        generateCharacteristics(snapshot, width);
 
         promptContainer.add(Box.createVerticalStrut(50));
         promptContainer.add(generalContainer);
@@ -65,8 +67,9 @@ public class PetStatsMenu {
     }
 
     // EFFECTS: generates the general component for pet stats menu
-    private static void generateGeneral(GuiApp ui, int width) throws IOException, FontFormatException {
-        createGeneralPanel(ui, width - 200, 40, 20f);
+    private static void generateGeneral(GameSnapshot snapshot, int width)
+            throws IOException, FontFormatException {
+        createGeneralPanel(snapshot, width - 200, 40, 20f);
         generalContainer.setLayout(new BoxLayout(generalContainer, BoxLayout.Y_AXIS));
         generalContainer.add(nameText);
         generalContainer.add(animalTypeText);
@@ -75,18 +78,18 @@ public class PetStatsMenu {
     }
 
     // EFFECTS: creates the general texts
-    private static void createGeneralPanel(GuiApp ui, int width, int height, float fontSize)
+    private static void createGeneralPanel(GameSnapshot snapshot, int width, int height, float fontSize)
             throws IOException, FontFormatException {
-        nameText = createJTextArea("Name: " + ui.getGame().getPet().getName(),
+        nameText = createJTextArea("Name: " + snapshot.getPetName(),
                 fontSize, width, height);
 
-        animalTypeText = createJTextArea("Animal Type: " + ui.getGame().getPet().getAnimalType(),
+        animalTypeText = createJTextArea("Animal Type: " + snapshot.getPetAnimalType(),
                 fontSize, width, height);
 
-        breedText = createJTextArea("Breed: " + ui.getGame().getPet().getBreed(),
+        breedText = createJTextArea("Breed: " + snapshot.getPetBreed(),
                 fontSize, width, height);
 
-        ageText = createJTextArea("Age: " + ui.getGame().getPet().getAge(),
+        ageText = createJTextArea("Age: " + snapshot.getPetAge(),
                 fontSize, width, height);
 
         generalContainer = createJPanel(GAME_BAR_UI_COLOR, width + 100, (height + 8) * 4);
@@ -95,8 +98,9 @@ public class PetStatsMenu {
     }
 
     // EFFECTS: generates the care levels component for pet stats menu
-    private static void generateCareLevels(GuiApp ui, int width) throws IOException, FontFormatException {
-        createCareLevelsPanel(ui, width - 200, 30, 18f);
+    private static void generateCareLevels(GameSnapshot snapshot, int width)
+            throws IOException, FontFormatException {
+        createCareLevelsPanel(snapshot, width - 200, 30, 18f);
         careLevelsContainer.setLayout(new BoxLayout(careLevelsContainer, BoxLayout.Y_AXIS));
         careLevelsContainer.add(happinessBar);
         careLevelsContainer.add(Box.createVerticalStrut(5));
@@ -108,25 +112,25 @@ public class PetStatsMenu {
     }
 
     // EFFECTS: creates the happiness, hunger, thirst, health bars
-    private static void createCareLevelsPanel(GuiApp ui, int width, int height, float fontSize)
+    private static void createCareLevelsPanel(GameSnapshot snapshot, int width, int height, float fontSize)
             throws IOException, FontFormatException {
         happinessBar = createJTextArea("Happiness: "
-                        + ui.getGame().getPet().getHappiness() + "/" + PixelPetGame.MAX_HAPPINESS,
+                        + snapshot.getHappiness() + "/" + PixelPetGame.MAX_HAPPINESS,
                 fontSize, width, height);
         happinessBar.setBackground(HAPPINESS_BAR_COLOR);
 
         hungerBar = createJTextArea("Hunger: "
-                        + ui.getGame().getPet().getHunger() + "/" + PixelPetGame.MAX_HUNGER,
+                        + snapshot.getHunger() + "/" + PixelPetGame.MAX_HUNGER,
                 fontSize, width, height);
         hungerBar.setBackground(HUNGER_BAR_COLOR);
 
         thirstBar = createJTextArea("Thirst: "
-                        + ui.getGame().getPet().getThirst() + "/" + PixelPetGame.MAX_THIRST,
+                        + snapshot.getThirst() + "/" + PixelPetGame.MAX_THIRST,
                 fontSize, width, height);
         thirstBar.setBackground(THIRST_BAR_COLOR);
 
         healthBar = createJTextArea("Health: "
-                        + ui.getGame().getPet().getHealth() + "/" + PixelPetGame.MAX_HEALTH,
+                        + snapshot.getHealth() + "/" + PixelPetGame.MAX_HEALTH,
                 fontSize, width, height);
         healthBar.setBackground(HEALTH_BAR_COLOR);
 
@@ -135,18 +139,19 @@ public class PetStatsMenu {
         careLevelsBorder.setTitleColor(BUTTON_TEXT_COLOR);
     }
 
-    // EFFECTS: updates the pet stats ui
-    public static void updatePetStats(GuiApp ui) {
-        happinessBar.setText("Happiness: " + ui.getGame().getPet().getHappiness() + "/" + PixelPetGame.MAX_HAPPINESS);
-        hungerBar.setText("Hunger: " + ui.getGame().getPet().getHunger() + "/" + PixelPetGame.MAX_HUNGER);
-        thirstBar.setText("Thirst: " + ui.getGame().getPet().getThirst() + "/" + PixelPetGame.MAX_THIRST);
-        healthBar.setText("Health: " + ui.getGame().getPet().getHealth() + "/" + PixelPetGame.MAX_HEALTH);
-        ageText.setText("Age: " + ui.getGame().getPet().getAge());
+    // EFFECTS: updates the pet stats ui from snapshot
+    public static void updatePetStats(GameSnapshot snapshot) {
+        happinessBar.setText("Happiness: " + snapshot.getHappiness() + "/" + PixelPetGame.MAX_HAPPINESS);
+        hungerBar.setText("Hunger: " + snapshot.getHunger() + "/" + PixelPetGame.MAX_HUNGER);
+        thirstBar.setText("Thirst: " + snapshot.getThirst() + "/" + PixelPetGame.MAX_THIRST);
+        healthBar.setText("Health: " + snapshot.getHealth() + "/" + PixelPetGame.MAX_HEALTH);
+        ageText.setText("Age: " + snapshot.getPetAge());
     }
 
     // EFFECTS: generates the characteristics component for pet stats menu
-    private static void generateCharacteristics(GuiApp ui, int width) throws IOException, FontFormatException {
-        createCharacteristicsPanel(ui, width - 200, 40, 16f);
+    private static void generateCharacteristics(GameSnapshot snapshot, int width)
+            throws IOException, FontFormatException {
+        createCharacteristicsPanel(snapshot, width - 200, 40, 16f);
         characteristicsContainer.setLayout(new BoxLayout(characteristicsContainer, BoxLayout.Y_AXIS));
         characteristicsContainer.add(likesText);
         characteristicsContainer.add(dislikesText);
@@ -155,22 +160,22 @@ public class PetStatsMenu {
     }
 
     // EFFECTS: creates the characteristics texts
-    private static void createCharacteristicsPanel(GuiApp ui, int width, int height, float fontSize)
+    private static void createCharacteristicsPanel(GameSnapshot snapshot, int width, int height, float fontSize)
             throws IOException, FontFormatException {
         likesText = createJTextArea("Likes: "
-                        + arrayToString(ui.getGame().getPet().getLikes()),
+                        + arrayToString(snapshot.getPetLikes()),
                 fontSize, width, height);
 
         dislikesText = createJTextArea("Dislikes: "
-                        + arrayToString(ui.getGame().getPet().getDislikes()),
+                        + arrayToString(snapshot.getPetDislikes()),
                 fontSize, width, height);
 
         personalitiesText = createJTextArea("Personalities: "
-                        + arrayToString(ui.getGame().getPet().getPersonalities()),
+                        + arrayToString(snapshot.getPetPersonalities()),
                 fontSize, width, height);
 
         cannotHavesText = createJTextArea("Cannot Have: "
-                        + arrayToString(ui.getGame().getPet().getCannotHaves()),
+                        + arrayToString(snapshot.getPetCannotHaves()),
                 fontSize, width, height);
 
         characteristicsContainer = createJPanel(GAME_BAR_UI_COLOR, width + 100, (height + 8) * 4);
@@ -178,8 +183,8 @@ public class PetStatsMenu {
         characteristicsBorder.setTitleColor(BUTTON_TEXT_COLOR);
     }
 
-    // EFFECTS: converts an ArrayList of String to a cleaner format
-    private static String arrayToString(ArrayList<String> arrayList) {
+    // EFFECTS: converts a list of String to a cleaner format
+    private static String arrayToString(List<String> arrayList) {
         return arrayList.toString().replaceAll("\\[|\\]","");
     }
 
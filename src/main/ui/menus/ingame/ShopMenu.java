@@ -1,9 +1,11 @@
 package ui.menus.ingame;
 
-import model.Player;
+import model.GameSnapshot;
 import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
 import model.goodsandservices.Shop;
 import ui.app.GuiApp;
+import ui.app.PixelPetGame;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
@@ -13,13 +15,14 @@ import java.awt.event.ActionListener;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static ui.configurables.InterfaceAesthetics.*;
 import static ui.configurables.JComponentBuilder.*;
 
 // represents the shop menu
 public class ShopMenu {
-    private static final String shopName = "Kira Kira Pets";
+    private static final String shopName = PixelPetGame.DEFAULT_SHOP_NAME;
     private static final TitledBorder shopItemsBorder = BorderFactory.createTitledBorder("Items");
     private static JPanel shopItemsContainer;
 
@@ -75,9 +78,10 @@ public class ShopMenu {
     // EFFECTS: creates the shop item buttons
     public static void createShopItemsPanel(GuiApp ui, int width, float fontSize)
             throws IOException, FontFormatException {
-        Shop shop = ui.getGame().getShopByName(shopName);
-        ArrayList<Item> items = shop.getShopItems();
-        ArrayList<Integer> quantities = shop.getQuantityInStock();
+        GameSnapshot snapshot = ui.getSimulation().getSnapshot();
+        List<Item> items = snapshot.getShopItems(shopName);
+        List<Integer> quantities = snapshot.getShopQuantities(shopName);
+        List<Integer> prices = snapshot.getShopPrices(shopName);
 
         shopItemsContainer.removeAll();
         for (int i = 0; i < items.size(); i++) {
@@ -85,9 +89,9 @@ public class ShopMenu {
 
             JPanel itemContainer = createJPanel(GAME_BAR_UI_COLOR, width - 200, 56);
             JButton itemButton = createJButton(item.getType() + ": '" + item.getName()
-                            + "' x" + quantities.get(i) + " ($" + item.getPrice() + ")",
+                            + "' x" + quantities.get(i) + " ($" + prices.get(i) + ")",
                     item.getName() + "~" + item.getType()
-                            + "~$" + item.getPrice() + "~" + quantities.get(i),
+                            + "~$" + prices.get(i) + "~" + quantities.get(i),
                     shopButtonClicked, fontSize, width - 200, 48);
             itemButton.setPreferredSize(new Dimension(width - 300, 48));
 
@@ -158,7 +162,7 @@ public class ShopMenu {
         buyButton.setBackground(BUTTON_COLOR_2);
         shopItemBuyButtonContainer.add(buyButton);
 
-        shopPlayerMoneyText = createJTextArea("Money: " + ui.getGame().getPlayer().getMoney(),
+        shopPlayerMoneyText = createJTextArea("Money: " + ui.getSimulation().getSnapshot().getMoney(),
                 fontSize, width / 2, 50);
 
         shopItemInfoContainer = createJPanel(GAME_BAR_UI_COLOR,width - 200, (50 + 8 + 5) * 4);
@@ -168,24 +172,29 @@ public class ShopMenu {
     }
 
     // EFFECTS: updates the shop menu ui
-    public static void updateShopMenu(GuiApp ui) {
-        shopPlayerMoneyText.setText("Money: $" + ui.getGame().getPlayer().getMoney());
+    public static void updateShopMenu(GameSnapshot snapshot) {
+        shopPlayerMoneyText.setText("Money: $" + snapshot.getMoney());
     }
 
     // EFFECTS: checks to see if buying the item is valid,
-    //          then handles the player transaction if valid
-    public static void buyItem(GuiApp ui) {
-        Player player = ui.getGame().getPlayer();
-        Shop shop = ui.getGame().getShopByName(shopName);
-        Item itemToCheck = validItem(shop.getShopItems(), shopSelectedItemName, shopSelectedItemType);
-
-        if (itemToCheck != null && player.buyItemFrom(itemToCheck, 1, shop)) {
-            shopPlayerMoneyText.setText("Money: $" + player.getMoney());
+    //          then handles the player transaction on the simulation thread if valid
+    public static void buyItem(GuiApp ui) throws IOException {
+        String itemName = shopSelectedItemName;
+        String itemType = shopSelectedItemType;
+
+        boolean bought = ui.getSimulation().call(engine -> {
+            Shop shop = engine.getShopByName(shopName);
+            Item itemToCheck = ItemCatalog.getInstance().getItem(itemName, itemType);
+            return itemToCheck != null && shop.checkIsInShop(itemToCheck)
+                    && engine.getPlayer().buyItemFrom(itemToCheck, 1, shop);
+        });
+        if (bought) {
+            shopPlayerMoneyText.setText("Money: $" + ui.getSimulation().getSnapshot().getMoney());
         }
     }
 
     // EFFECTS: returns the item if there exists an item of the name itemName and type itemType
-    public static Item validItem(ArrayList<Item> itemsList, String itemName, String itemType) {
+    public static Item validItem(List<Item> itemsList, String itemName, String itemType) {
         for (Item item : itemsList) {
             String comparingName = item.getName().toLowerCase();
             String comparingType = item.getType().toLowerCase();
@@ -27,7 +27,7 @@ public class LoadMenu extends Menu {
     private JTextArea confirmText;
     private JPanel confirmButtonContainer;
 
-    private int sessionId;
+    private long sessionId;
 
     // EFFECTS: constructs the main menu
     public LoadMenu(GuiApp ui, JLayeredPane menu) throws IOException, FontFormatException {
@@ -80,7 +80,7 @@ public class LoadMenu extends Menu {
     // EFFECTS: returns true if session id is valid
     private boolean isSessionIdValid() {
         try {
-            sessionId = Integer.parseInt(sessionIdTextBox.getText());
+            sessionId = Long.parseLong(sessionIdTextBox.getText());
             loadGameData(sessionId);
             return true;
         } catch (Exception e) {
@@ -146,10 +146,11 @@ public class LoadMenu extends Menu {
         menu.getRootPane().setDefaultButton(backButton);
     }
 
-    // EFFECTS: loads game data from a previous session
-    private void loadGameData(int sessionId)
+    // EFFECTS: loads game data from a previous session and applies the time that passed since it was saved
+    private void loadGameData(long sessionId)
             throws CannotFindSessionIdException, IOException {
-        new PersistenceReader(persistenceFile, ui.getGame(), sessionId);
+        PersistenceReader reader = new PersistenceReader(persistenceFile, ui.getGame(), sessionId);
+        ui.getGame().applyOfflineProgress(reader.getSecondsSinceSave());
     }
 
     @Override
@@ -0,0 +1,174 @@
+package model;
+
+import model.goodsandservices.LocalShop;
+import model.goodsandservices.Shop;
+import model.pets.ExampleAnimal;
+import model.pets.Pet;
+import model.pets.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static model.GameEngine.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+    Player player;
+    Pet pet;
+    GameEngine engine;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        player = new Player();
+        pet = new ExampleAnimal("Animal", "Aleph");
+        engine = new GameEngine(player, pet);
+    }
+
+    @Test
+    void constructorTest() {
+        assertSame(player, engine.getPlayer());
+        assertSame(pet, engine.getPet());
+        assertEquals(1, engine.getShops().size());
+        assertNotNull(engine.getShopByName(DEFAULT_SHOP_NAME));
+        assertEquals(1, engine.getRestockScheduler().size());
+        assertFalse(engine.isEnded());
+
+        Shop shop = engine.getShopByName(DEFAULT_SHOP_NAME);
+        assertEquals(5, shop.getShopItems().size());
+        assertTrue(shop.getShopItems().stream()
+                .filter(item -> item.getType().equals("Food") && item.getPrice() <= 200).count() >= 2);
+    }
+
+    @Test
+    void advanceTest() {
+        int money = player.getMoney();
+        int happiness = pet.getHappiness();
+
+        assertEquals(TICKS_PER_SECOND * 60, engine.advance(TICKS_PER_SECOND * 60));
+        assertEquals(TICKS_PER_SECOND * 60, engine.getTicksPassed());
+        assertEquals(60, engine.getSecondsPassed());
+        assertEquals(money + 60 * 20, player.getMoney());
+        assertEquals(happiness - 12, pet.getHappiness());
+        assertEquals(1, pet.getAge());
+        assertEquals(TICKS_PER_SECOND * 60, player.getLedger().getNow());
+    }
+
+    @Test
+    void advanceStopsWhenEndedTest() {
+        pet.setHealth(1);
+
+        int ticksRun = engine.advance(TICKS_PER_SECOND * 10);
+        assertEquals(TICKS_PER_SECOND * 5, ticksRun);
+        assertTrue(engine.isEnded());
+        assertEquals(State.DEAD, pet.getState());
+        assertEquals(0, engine.advance(100));
+    }
+
+    @Test
+    void nextEventTickTest() {
+        assertEquals(TICKS_PER_SECOND, engine.getNextEventTick());
+
+        engine.advance(TICKS_PER_SECOND * 3 / 2);
+        assertEquals(TICKS_PER_SECOND * 2, engine.getNextEventTick());
+
+        pet.setHealth(0);
+        engine.advance(1);
+        assertEquals(NO_EVENT, engine.getNextEventTick());
+    }
+
+    @Test
+    void advanceMatchesTickingTest() throws IOException {
+        GameEngine ticked = new GameEngine(new Player(), new ExampleAnimal("Animal", "Aleph"));
+        int[] steps = {1, 37, TICKS_PER_SECOND, TICKS_PER_SECOND * 7 + 3, TICKS_PER_SECOND * 130, 99999};
+
+        for (int step : steps) {
+            int ticksRun = 0;
+            while (ticksRun < step && !ticked.isEnded()) {
+                ticked.tick();
+                ticksRun++;
+            }
+
+            assertEquals(ticksRun, engine.advance(step));
+            assertEqualsGame(ticked, engine);
+            assertEquals(ticked.getPlayer().getLedger().size(), player.getLedger().size());
+            assertEquals(ticked.getRestockScheduler().getNextDeadline(),
+                    engine.getRestockScheduler().getNextDeadline());
+        }
+        assertTrue(engine.isEnded());
+    }
+
+    @Test
+    void advanceToSkipsNothingAfterDeathTest() {
+        engine.advance(10);
+        pet.setThirst(0);
+
+        assertEquals(1, engine.advance(TICKS_PER_SECOND));
+        assertEquals(11, engine.getTicksPassed());
+        assertTrue(engine.isEnded());
+    }
+
+    @Test
+    void offlineProgressMatchesTickingTest() throws IOException {
+        for (int seconds : new int[] {0, 1, 4, 5, 59, 60, 61, 299, 300, 499, 500, 501, 100000}) {
+            GameEngine ticked = new GameEngine(new Player(), new ExampleAnimal("Animal", "Aleph"));
+            GameEngine offline = new GameEngine(new Player(), new ExampleAnimal("Animal", "Aleph"));
+            ticked.advance(TICKS_PER_SECOND * 7 + 30);
+            offline.advance(TICKS_PER_SECOND * 7 + 30);
+
+            ticked.advance(seconds * TICKS_PER_SECOND);
+            long applied = offline.applyOfflineProgress(seconds);
+
+            assertEquals(ticked.getSecondsPassed() - 7, applied);
+            assertEqualsGame(ticked, offline);
+        }
+    }
+
+    @Test
+    void offlineProgressStopsAtDeathTest() {
+        pet.setHunger(3);
+
+        assertEquals(15, engine.applyOfflineProgress(60L * 60 * 24 * 30));
+        assertTrue(engine.isEnded());
+        assertEquals(State.DEAD, pet.getState());
+        assertEquals(0, pet.getHunger());
+        assertEquals(15, engine.getSecondsPassed());
+        assertEquals(15 * TICKS_PER_SECOND, engine.getTicksPassed());
+        assertEquals(0, engine.applyOfflineProgress(100));
+    }
+
+    @Test
+    void offlineProgressRestocksOnceTest() {
+        Shop shop = engine.getShopByName(DEFAULT_SHOP_NAME);
+        int quantity = shop.getQuantityInStock().get(0);
+
+        engine.applyOfflineProgress(499);
+        assertEquals(quantity + 5, shop.getQuantityInStock().get(0));
+        assertEquals(600, engine.getRestockScheduler().getNextDeadline());
+    }
+
+    // EFFECTS: asserts that both games are at the same point with the same player money and pet
+    void assertEqualsGame(GameEngine expected, GameEngine actual) {
+        assertEquals(expected.getTicksPassed(), actual.getTicksPassed());
+        assertEquals(expected.getSecondsPassed(), actual.getSecondsPassed());
+        assertEquals(expected.isEnded(), actual.isEnded());
+        assertEquals(expected.getPlayer().getMoney(), actual.getPlayer().getMoney());
+        assertEquals(expected.getPet().getAge(), actual.getPet().getAge());
+        assertEquals(expected.getPet().alertCareStats(), actual.getPet().alertCareStats());
+        assertEquals(expected.getPet().getState(), actual.getPet().getState());
+    }
+
+    @Test
+    void addAndRemoveShopTest() throws IOException {
+        Shop shop = new LocalShop("Second");
+        engine.addShop(shop);
+
+        assertSame(shop, engine.getShopByName("Second"));
+        assertNotNull(shop.getPricingEngine());
+        assertEquals(2, engine.getRestockScheduler().size());
+
+        engine.removeShop("Second");
+        assertNull(engine.getShopByName("Second"));
+        assertEquals(1, engine.getRestockScheduler().size());
+    }
+}
@@ -0,0 +1,76 @@
+package model;
+
+import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InventoryTest {
+    Inventory inventory;
+    ItemCatalog catalog;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        inventory = new Inventory();
+        catalog = ItemCatalog.getInstance();
+    }
+
+    @Test
+    void addAndRemoveTest() {
+        Item bone = catalog.getItem("Bone", "Toy");
+        Item grapes = catalog.getItem("Grapes", "Food");
+
+        inventory.add(bone, 2);
+        inventory.add(grapes, 1);
+        inventory.add(bone, 3);
+        assertEquals(5, inventory.getCount(bone));
+        assertEquals(2, inventory.size());
+
+        inventory.remove(bone, 5);
+        assertFalse(inventory.contains(bone));
+        assertEquals(0, inventory.getCount(bone));
+        assertEquals(new ArrayList<>(Arrays.asList(grapes)), inventory.getItems());
+        assertEquals(new ArrayList<>(Arrays.asList(1)), inventory.getCounts());
+    }
+
+    @Test
+    void keepsOrderTest() {
+        ArrayList<Item> expected = new ArrayList<>();
+        for (int id = 0; id < catalog.size(); id++) {
+            inventory.add(catalog.getItem(id), 1);
+            expected.add(catalog.getItem(id));
+        }
+
+        for (int id = 0; id < catalog.size(); id += 2) {
+            inventory.remove(catalog.getItem(id), 1);
+            expected.remove(catalog.getItem(id));
+            assertEquals(expected, inventory.getItems());
+        }
+        inventory.add(catalog.getItem(0), 4);
+        expected.add(catalog.getItem(0));
+
+        assertEquals(expected, inventory.getItems());
+        assertEquals(4, inventory.getCount(catalog.getItem(0)));
+        assertEquals(expected.size(), inventory.size());
+    }
+
+    @Test
+    void setItemsAndCountsTest() {
+        Item bone = catalog.getItem("Bone", "Toy");
+        Item grapes = catalog.getItem("Grapes", "Food");
+        inventory.add(catalog.getItem("Blob", "Unknown"), 1);
+
+        inventory.setItems(new ArrayList<>(Arrays.asList(grapes, bone)));
+        inventory.setCounts(new ArrayList<>(Arrays.asList(7, 8)));
+
+        assertEquals(new ArrayList<>(Arrays.asList(grapes, bone)), inventory.getItems());
+        assertEquals(8, inventory.getCount(bone));
+        assertFalse(inventory.contains(catalog.getItem("Blob", "Unknown")));
+    }
+}
@@ -0,0 +1,121 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyLedgerTest {
+    MoneyLedger ledger;
+
+    @BeforeEach
+    void runBefore() {
+        ledger = new MoneyLedger();
+    }
+
+    @Test
+    void appendTest() {
+        assertEquals(0, ledger.size());
+        assertEquals(0, ledger.getBalance());
+
+        ledger.append(1000, MoneyReason.ADJUSTMENT);
+        ledger.advanceTo(5);
+        ledger.append(-300, MoneyReason.PURCHASE);
+
+        assertEquals(2, ledger.size());
+        assertEquals(700, ledger.getBalance());
+        assertEquals(0, ledger.getTick(0));
+        assertEquals(5, ledger.getTick(1));
+        assertEquals(-300, ledger.getDelta(1));
+        assertEquals(MoneyReason.PURCHASE, ledger.getReason(1));
+    }
+
+    @Test
+    void advanceToNeverMovesBackTest() {
+        ledger.advanceTo(50);
+        ledger.advanceTo(10);
+        ledger.append(1, MoneyReason.INCOME);
+
+        assertEquals(50, ledger.getNow());
+        assertEquals(50, ledger.getTick(0));
+    }
+
+    @Test
+    void manyChunksTest() {
+        int entries = MoneyLedger.CHUNK_SIZE * 5 + 17;
+
+        for (int tick = 0; tick < entries; tick++) {
+            ledger.advanceTo(tick);
+            ledger.append(tick % 7 - 3, (tick % 2 == 0) ? MoneyReason.INCOME : MoneyReason.PURCHASE);
+        }
+
+        long balance = 0;
+        for (int entry = 0; entry < entries; entry++) {
+            assertEquals(entry, ledger.getTick(entry));
+            assertEquals(entry % 7 - 3, ledger.getDelta(entry));
+            balance += ledger.getDelta(entry);
+        }
+        assertEquals(entries, ledger.size());
+        assertEquals(balance, ledger.getBalance());
+        assertEquals(MoneyReason.PURCHASE, ledger.getReason(entries - 2));
+    }
+
+    @Test
+    void incomeEntriesStayExactTest() {
+        for (int tick = 100; tick <= 300; tick += 100) {
+            ledger.advanceTo(tick);
+            ledger.append(20, MoneyReason.INCOME);
+        }
+
+        assertEquals(3, ledger.size());
+        assertEquals(20, ledger.sumBetween(0, 150));
+        assertEquals(40, ledger.balanceBefore(250));
+        assertEquals(200, ledger.getTick(1));
+    }
+
+    @Test
+    void compactionTest() {
+        MoneyLedger small = new MoneyLedger(2);
+        int entries = MoneyLedger.CHUNK_SIZE * 3 + 5;
+
+        for (int tick = 0; tick < entries; tick++) {
+            small.advanceTo(tick);
+            small.append(tick, MoneyReason.INCOME);
+        }
+
+        assertEquals(MoneyLedger.CHUNK_SIZE + 5, small.size());
+        assertEquals(MoneyLedger.CHUNK_SIZE * 2, small.getCompacted());
+        assertEquals(MoneyLedger.CHUNK_SIZE * 2, small.getTick(0));
+        assertEquals(MoneyLedger.CHUNK_SIZE * 2, small.getDelta(0));
+        assertEquals(MoneyLedger.CHUNK_SIZE * 2 - 1, small.getCheckpointTick());
+        assertEquals(sumOfEntries(0, MoneyLedger.CHUNK_SIZE * 2), small.getCheckpointBalance());
+        assertEquals(sumOfEntries(0, entries), small.getBalance());
+        assertEquals(sumOfEntries(2500, 3000), small.sumBetween(2500, 3000));
+        assertEquals(sumOfEntries(0, 2100), small.balanceBefore(2100));
+        assertEquals(small.getCheckpointBalance(), small.balanceBefore(100));
+    }
+
+    @Test
+    void sumBetweenTest() {
+        int entries = MoneyLedger.CHUNK_SIZE * 3 + 100;
+
+        for (int tick = 0; tick < entries; tick++) {
+            ledger.advanceTo(tick / 2);
+            ledger.append(tick, MoneyReason.INCOME);
+        }
+
+        assertEquals(sumOfEntries(0, entries), ledger.sumBetween(0, entries));
+        assertEquals(sumOfEntries(10, 3000), ledger.sumBetween(5, 1500));
+        assertEquals(sumOfEntries(2048, 2050), ledger.sumBetween(1024, 1025));
+        assertEquals(0, ledger.sumBetween(700, 700));
+        assertEquals(0, ledger.sumBetween(900, 100));
+        assertEquals(0, ledger.sumBetween(entries, entries * 2));
+        assertEquals(sumOfEntries(0, 2000), ledger.balanceBefore(1000));
+        assertEquals(ledger.getBalance(), ledger.balanceBefore(entries));
+    }
+
+    // EFFECTS: returns the sum of from, from + 1, ..., to - 1
+    long sumOfEntries(long from, long to) {
+        return (to * (to - 1) - from * (from - 1)) / 2;
+    }
+}
@@ -1,7 +1,10 @@
 package model;
 
+import model.goodsandservices.Cart;
 import model.goodsandservices.Item;
+import model.goodsandservices.LocalShop;
 import model.goodsandservices.Shop;
+import model.logger.Event;
 import model.pets.ExampleAnimal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -121,7 +124,7 @@ class PlayerTest {
     void buyItemFromTest() throws IOException {
         plr1.setMoney(10000000);
 
-        Shop shop1 = new Shop("Petpix Toys");
+        Shop shop1 = new LocalShop("Petpix Toys");
         Item item1 = new Item("Chicken", "Food");
         Item item2 = new Item("Bone", "Toy");
         shop1.addShopItem(item1, 50);
@@ -156,7 +159,7 @@ class PlayerTest {
     void buyItemFromMultipleTest() throws IOException {
         plr1.setMoney(10000000);
 
-        Shop shop1 = new Shop("Petpix Toys");
+        Shop shop1 = new LocalShop("Petpix Toys");
         Item item1 = new Item("Chicken", "Food");
         Item item2 = new Item("Bone", "Toy");
         shop1.addShopItem(item1, 50);
@@ -178,7 +181,7 @@ class PlayerTest {
     void buyItemFromNotEnoughMoneyTest() throws IOException {
         plr1.setMoney(0);
 
-        Shop shop1 = new Shop("Petpix Toys");
+        Shop shop1 = new LocalShop("Petpix Toys");
         Item item1 = new Item("Chicken", "Food");
         Item item2 = new Item("Bone", "Toy");
         shop1.addShopItem(item1, 50);
@@ -198,7 +201,7 @@ class PlayerTest {
     void buyItemFromLittleInStockTest() throws IOException {
         plr1.setMoney(10000);
 
-        Shop shop1 = new Shop("Petpix Toys");
+        Shop shop1 = new LocalShop("Petpix Toys");
         Item item1 = new Item("Chicken", "Food");
         shop1.addShopItem(item1, 5);
 
@@ -216,7 +219,7 @@ class PlayerTest {
     void buyItemFromNeitherEnoughTest() throws IOException {
         plr1.setMoney(0);
 
-        Shop shop1 = new Shop("Petpix Toys");
+        Shop shop1 = new LocalShop("Petpix Toys");
         Item item1 = new Item("Chicken", "Food");
         Item item2 = new Item("Bone", "Toy");
         shop1.addShopItem(item1, 1);
@@ -234,7 +237,7 @@ class PlayerTest {
 
     @Test
     void buyItemFromJustRightTest() throws IOException {
-        Shop shop1 = new Shop("Petpix Toys");
+        Shop shop1 = new LocalShop("Petpix Toys");
         Item item1 = new Item("Chicken", "Food");
         shop1.addShopItem(item1, 1);
 
@@ -252,6 +255,94 @@ class PlayerTest {
         assertEquals(expectedVal1C, plr1.getMoney());
     }
 
+    @Test
+    void buyItemsFromTest() throws IOException {
+        plr1.setMoney(10000);
+
+        Shop shop1 = new LocalShop("Petpix Toys");
+        Item item1 = new Item("Chicken", "Food");
+        Item item2 = new Item("Bone", "Toy");
+        shop1.addShopItem(item1, 5);
+        shop1.addShopItem(item2, 4);
+
+        Cart cart = new Cart().add(item2, 1).add(item1, 2).add(item2, 3);
+        int expectedMoney = 10000 - item1.getPrice() * 2 - item2.getPrice() * 4;
+        int eventsBefore = countEvents();
+
+        assertTrue(plr1.buyItemsFrom(cart, shop1));
+        assertEquals(new ArrayList<>(Arrays.asList(item2, item1)), plr1.getInventory());
+        assertEquals(new ArrayList<>(Arrays.asList(4, 2)), plr1.getInventoryQuantity());
+        assertEquals(expectedMoney, plr1.getMoney());
+        assertEquals(new ArrayList<>(Arrays.asList(item1)), shop1.getShopItems());
+        assertEquals(3, shop1.getItemQuantity(item1));
+        assertEquals(eventsBefore + 1, countEvents());
+    }
+
+    @Test
+    void buyItemsFromAllOrNothingTest() throws IOException {
+        plr1.setMoney(10000);
+
+        Shop shop1 = new LocalShop("Petpix Toys");
+        Item item1 = new Item("Chicken", "Food");
+        Item item2 = new Item("Bone", "Toy");
+        Item item3 = new Item("Grapes", "Food");
+        shop1.addShopItem(item1, 5);
+        shop1.addShopItem(item2, 4);
+
+        assertFalse(plr1.buyItemsFrom(new Cart().add(item1, 1).add(item2, 3).add(item2, 2), shop1));
+        assertFalse(plr1.buyItemsFrom(new Cart().add(item1, 1).add(item3, 1), shop1));
+        assertFalse(plr1.buyItemsFrom(new Cart(), shop1));
+        plr1.setMoney(item1.getPrice() * 5 - 1);
+        assertFalse(plr1.buyItemsFrom(new Cart().add(item1, 5), shop1));
+
+        assertTrue(plr1.getInventory().isEmpty());
+        assertEquals(item1.getPrice() * 5 - 1, plr1.getMoney());
+        assertEquals(new ArrayList<>(Arrays.asList(5, 4)), shop1.getQuantityInStock());
+    }
+
+    // EFFECTS: returns the number of events in the event log
+    private int countEvents() {
+        int count = 0;
+        for (Event ignored : plr1.getEventLog()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    void eventLogBoundedTest() throws IOException {
+        Item chicken = new Item("Chicken", "Food");
+        for (int i = 0; i < Player.MAX_LOGGED_EVENTS + 5; i++) {
+            plr1.addToInventory(chicken, 1);
+        }
+        assertEquals(Player.MAX_LOGGED_EVENTS, countEvents());
+        assertEquals(Player.MAX_LOGGED_EVENTS, plr1.getEventLog().drain().size());
+    }
+
+    @Test
+    void moneyLedgerTest() throws IOException {
+        Item chicken = new Item("Chicken", "Food");
+        Shop shop = new LocalShop("Test Shop");
+        shop.addShopItem(chicken, 10);
+
+        plr1.getLedger().advanceTo(100);
+        plr1.earnMoney(20);
+        plr1.getLedger().advanceTo(200);
+        assertTrue(plr1.buyItemFrom(chicken, 2, shop));
+        plr1.setMoney(7000);
+
+        MoneyLedger ledger = plr1.getLedger();
+        assertEquals(4, ledger.size());
+        assertEquals(MoneyReason.ADJUSTMENT, ledger.getReason(0));
+        assertEquals(MoneyReason.INCOME, ledger.getReason(1));
+        assertEquals(MoneyReason.PURCHASE, ledger.getReason(2));
+        assertEquals(-2 * shop.getItemPrice(chicken), ledger.getDelta(2));
+        assertEquals(200, ledger.getTick(2));
+        assertEquals(MoneyReason.ADJUSTMENT, ledger.getReason(3));
+        assertEquals(7000, plr1.getMoney());
+        assertEquals(5020, ledger.balanceBefore(200));
+    }
+
     @Test
     void playerNameTest() {
         plr1.setPlayerName("New Name");
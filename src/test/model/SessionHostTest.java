@@ -0,0 +1,149 @@
+package model;
+
+import model.exceptions.CannotFindSessionIdException;
+import model.exceptions.SessionHostFullException;
+import model.goodsandservices.Item;
+import model.goodsandservices.Shop;
+import model.pets.ExampleAnimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHostTest {
+    SessionHost host;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        host = new SessionHost(3, 2, SessionShard.NEVER_EVICT, engine -> { });
+    }
+
+    @Test
+    void constructorTest() throws IOException {
+        SessionHost perCore = new SessionHost(10);
+        assertEquals(Runtime.getRuntime().availableProcessors(), perCore.getShardCount());
+        assertEquals(10 * perCore.getShardCount(), perCore.getCapacity());
+        assertEquals(0, perCore.getSessionCount());
+    }
+
+    @Test
+    void admitTest() throws IOException, SessionHostFullException {
+        for (int i = 0; i < 6; i++) {
+            GameEngine engine = newEngine();
+            long id = host.admit(engine);
+            assertEquals(id, engine.getSessionId());
+            assertEquals(i, host.getSessionCount() - 1);
+            assertEquals(host.shardOf(id), host.getShard((int) (id % 3)));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, host.getShard(i).getSessionCount());
+        }
+
+        try {
+            host.admit(newEngine());
+            fail();
+        } catch (SessionHostFullException e) {
+            assertEquals("The host already has its limit of 6 sessions!", e.getMessage());
+        }
+        assertEquals(1, host.getRejected());
+        assertEquals(6, host.getCapacity());
+    }
+
+    @Test
+    void runTest() throws IOException, SessionHostFullException, CannotFindSessionIdException {
+        GameEngine engine = newEngine();
+        long id = host.admit(engine);
+        host.shardOf(id).advanceBy(0);
+        host.shardOf(id).advanceBy(SessionHost.TICK_NANOS * 20);
+        CompletableFuture<Integer> ticks = host.submit(id, GameEngine::getTicksPassed);
+        host.shardOf(id).advanceBy(SessionHost.TICK_NANOS / 2);
+        assertEquals(20, ticks.join());
+        host.start();
+
+        assertEquals("simulation-shard-" + id % 3, host.call(id, game -> Thread.currentThread().getName()));
+        assertThrows(IOException.class, () -> host.call(id, game -> {
+            throw new IOException();
+        }));
+        assertThrows(IllegalStateException.class, () -> host.call(id, game -> {
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(host.drainEvents(id).join().isEmpty());
+        assertEquals(engine, host.evict(id).join());
+        assertEquals(0, host.getSessionCount());
+        assertThrows(CannotFindSessionIdException.class, () -> host.call(id, GameEngine::getTicksPassed));
+        host.stop();
+        assertFalse(host.getShard(0).isRunning());
+    }
+
+    @Test
+    void manySessionsTest() throws IOException, SessionHostFullException {
+        SessionHost big = new SessionHost(2, 1000, SessionShard.NEVER_EVICT, engine -> { });
+        for (int i = 0; i < 1000; i++) {
+            big.admit(newEngine());
+        }
+
+        for (int i = 0; i < 2; i++) {
+            SessionShard shard = big.getShard(i);
+            shard.advanceBy(0);
+            assertEquals(500, shard.getSessionCount());
+            assertEquals(100 * SessionHost.TICK_NANOS, shard.nanosUntilNextWakeUp());
+
+            assertEquals(100, shard.advanceBy(shard.nanosUntilNextWakeUp()));
+            assertEquals(500, shard.getSessionRuns());
+            assertEquals(10, shard.advanceBy(SessionHost.TICK_NANOS * 10));
+            assertEquals(500, shard.getSessionRuns());
+            assertEquals(110, shard.getTicks());
+            assertEquals(90 * SessionHost.TICK_NANOS, shard.nanosUntilNextWakeUp());
+        }
+    }
+
+    @Test
+    void marketTest() throws IOException, SessionHostFullException, CannotFindSessionIdException {
+        Shop market = host.getMarket();
+        Item item = market.getShopItems().get(0);
+        int stock = market.getItemQuantity(item);
+        long[] ids = new long[3];
+        for (int i = 0; i < 3; i++) {
+            ids[i] = host.admit(newEngine());
+        }
+        host.start();
+
+        for (long id : ids) {
+            assertSame(market, host.call(id, game -> game.getShopByName(SessionHost.MARKET_NAME)));
+            boolean bought = host.call(id, game -> game.getShopByName(SessionHost.MARKET_NAME).takeFromStock(item, 1));
+            assertTrue(bought);
+        }
+        assertEquals(stock - 3, market.getItemQuantity(item));
+
+        GameEngine evicted = host.evict(ids[0]).join();
+        host.stop();
+        assertNull(evicted.getShopByName(SessionHost.MARKET_NAME));
+        assertNotNull(evicted.getShopByName(GameEngine.DEFAULT_SHOP_NAME));
+        assertEquals(1, evicted.getShops().toJsonArray().length());
+    }
+
+    @Test
+    void marketRestockTest() throws IOException {
+        Shop market = host.getMarket();
+        Item item = market.getShopItems().get(0);
+        market.setItemQuantity(item, 0);
+
+        int items = market.getShopItems().size();
+        for (int i = 0; i < 119; i++) {
+            host.getShard(0).advanceBy(SessionHost.TICK_NANOS * GameEngine.TICKS_PER_SECOND);
+        }
+        assertEquals(0, market.getItemQuantity(item));
+        host.getShard(0).advanceBy(SessionHost.TICK_NANOS * GameEngine.TICKS_PER_SECOND);
+        assertEquals(50, market.getItemQuantity(item));
+        assertEquals(items + 2, market.getShopItems().size());
+    }
+
+    // EFFECTS: returns a new game
+    private GameEngine newEngine() throws IOException {
+        return new GameEngine(new Player(), new ExampleAnimal("Animal", "Aleph"));
+    }
+}
@@ -0,0 +1,215 @@
+package model;
+
+import model.exceptions.CannotFindSessionIdException;
+import model.goodsandservices.Item;
+import model.logger.Event;
+import model.pets.ExampleAnimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionShardTest {
+    static final long TICK_NANOS = 10000000L;
+
+    SessionShard shard;
+    ArrayList<GameEngine> evicted;
+    GameEngine engine;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        evicted = new ArrayList<>();
+        shard = new SessionShard(0, 1, 2, TICK_NANOS, 1000, 500, evicted::add);
+        engine = newEngine();
+    }
+
+    @Test
+    void reserveTest() {
+        assertTrue(shard.reserve());
+        assertTrue(shard.reserve());
+        assertFalse(shard.reserve());
+        assertEquals(2, shard.getSessionCount());
+    }
+
+    @Test
+    void sessionIdsTest() throws IOException {
+        SessionShard second = new SessionShard(1, 3, 10, TICK_NANOS, 1000, SessionShard.NEVER_EVICT, e -> { });
+        assertEquals(1, second.admit(engine));
+        assertEquals(4, second.admit(newEngine()));
+        assertEquals(7, second.admit(newEngine()));
+    }
+
+    @Test
+    void runsOnlyDueSessionsTest() throws IOException {
+        shard.reserve();
+        long id = shard.admit(engine);
+        shard.advanceBy(0);
+        shard.advanceBy(TICK_NANOS * 50);
+        assertEquals(1, shard.getAdmitted());
+        assertEquals(0, engine.getTicksPassed());
+
+        GameEngine later = newEngine();
+        shard.reserve();
+        shard.admit(later);
+        shard.advanceBy(0);
+        shard.advanceBy(TICK_NANOS * 200);
+        assertEquals(250, shard.getTicks());
+        assertEquals(250, engine.getTicksPassed());
+        assertEquals(200, later.getTicksPassed());
+        assertEquals(2, shard.getSessionRuns());
+
+        shard.advanceBy(TICK_NANOS * 20);
+        assertEquals(250, engine.getTicksPassed());
+        assertEquals(2, shard.getSessionRuns());
+
+        CompletableFuture<Integer> ticks = shard.submit(id, GameEngine::getTicksPassed);
+        shard.advanceBy(0);
+        assertEquals(270, ticks.join());
+        assertEquals(1, shard.getCommandsRun());
+    }
+
+    @Test
+    void evictTest() {
+        shard.reserve();
+        long id = shard.admit(engine);
+        shard.advanceBy(0);
+        shard.advanceBy(TICK_NANOS * 150);
+
+        CompletableFuture<GameEngine> first = shard.evict(id);
+        CompletableFuture<GameEngine> second = shard.evict(id);
+        CompletableFuture<Integer> command = shard.submit(id, GameEngine::getTicksPassed);
+        shard.advanceBy(0);
+
+        assertEquals(engine, first.join());
+        assertEquals(150, engine.getTicksPassed());
+        assertTrue(thrownBy(second) instanceof CannotFindSessionIdException);
+        assertTrue(thrownBy(command) instanceof CannotFindSessionIdException);
+        assertEquals(0, shard.getSessionCount());
+        assertEquals(1, shard.getEvicted());
+        assertTrue(evicted.isEmpty());
+    }
+
+    @Test
+    void idleEvictionTest() throws IOException {
+        GameEngine touched = newEngine();
+        shard.reserve();
+        shard.admit(engine);
+        shard.reserve();
+        long touchedId = shard.admit(touched);
+        shard.advanceBy(0);
+        shard.advanceBy(TICK_NANOS * 300);
+        shard.submit(touchedId, GameEngine::getTicksPassed);
+        shard.advanceBy(0);
+
+        for (int i = 0; i < 3; i++) {
+            shard.advanceBy(TICK_NANOS * 100);
+        }
+        assertEquals(1, evicted.size());
+        assertEquals(engine, evicted.get(0));
+        assertEquals(500, engine.getTicksPassed());
+
+        for (int i = 0; i < 3; i++) {
+            shard.advanceBy(TICK_NANOS * 100);
+        }
+        assertEquals(2, evicted.size());
+        assertEquals(800, touched.getTicksPassed());
+        assertEquals(0, shard.getSessionCount());
+    }
+
+    @Test
+    void drainEventsTest() throws IOException {
+        GameEngine other = newEngine();
+        shard.reserve();
+        long id = shard.admit(engine);
+        shard.reserve();
+        long otherId = shard.admit(other);
+        shard.submit(id, game -> {
+            game.getPlayer().addToInventory(new Item("Chicken", "Food"), 2);
+            return null;
+        });
+        CompletableFuture<List<Event>> drained = shard.drainEvents(id);
+        CompletableFuture<List<Event>> otherDrained = shard.drainEvents(otherId);
+        CompletableFuture<List<Event>> drainedAgain = shard.drainEvents(id);
+        CompletableFuture<List<Event>> missing = shard.drainEvents(99);
+        shard.advanceBy(0);
+
+        assertEquals(1, drained.join().size());
+        assertEquals("Added Chicken (x2) to inventory.", drained.join().get(0).getDescription());
+        assertTrue(otherDrained.join().isEmpty());
+        assertTrue(drainedAgain.join().isEmpty());
+        assertTrue(thrownBy(missing) instanceof CannotFindSessionIdException);
+    }
+
+    @Test
+    void commandExceptionTest() {
+        shard.reserve();
+        long id = shard.admit(engine);
+        CompletableFuture<Integer> failing = shard.submit(id, game -> {
+            throw new IOException();
+        });
+        shard.advanceBy(0);
+
+        assertTrue(thrownBy(failing) instanceof IOException);
+    }
+
+    @Test
+    void threadTest() {
+        SessionShard running = new SessionShard(2, 4, 10, 1000000L, 1000, SessionShard.NEVER_EVICT, e -> { });
+        running.reserve();
+        long id = running.admit(engine);
+        running.start();
+        running.start();
+        assertTrue(running.isRunning());
+
+        assertEquals("simulation-shard-2", running.submit(id, game -> Thread.currentThread().getName()).join());
+        int ticks = running.submit(id, GameEngine::getTicksPassed).join();
+        assertTrue(ticks <= running.getTicks());
+
+        running.stop();
+        running.stop();
+        assertFalse(running.isRunning());
+        assertTrue(running.getWakeUps() > 0);
+        assertTrue(running.getBusyNanos() > 0);
+    }
+
+    @Test
+    void parksUntilNextWakeUpTest() {
+        assertEquals(1000 * TICK_NANOS, shard.nanosUntilNextWakeUp());
+        shard.reserve();
+        long id = shard.admit(engine);
+        shard.advanceBy(TICK_NANOS / 2);
+        assertEquals(100 * TICK_NANOS - TICK_NANOS / 2, shard.nanosUntilNextWakeUp());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(100, shard.advanceBy(shard.nanosUntilNextWakeUp()));
+        }
+        assertEquals(400, shard.getTicks());
+        assertEquals(4, shard.getSessionRuns());
+        assertEquals(0, shard.getTicksDropped());
+
+        CompletableFuture<Integer> ticks = shard.submit(id, GameEngine::getTicksPassed);
+        shard.advanceBy(0);
+        assertEquals(400, ticks.join());
+    }
+
+    // EFFECTS: returns the exception future completed with
+    private Throwable thrownBy(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+    }
+
+    // EFFECTS: returns a new game
+    private GameEngine newEngine() throws IOException {
+        return new GameEngine(new Player(), new ExampleAnimal("Animal", "Aleph"));
+    }
+}
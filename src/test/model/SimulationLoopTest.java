@@ -0,0 +1,139 @@
+package model;
+
+import model.goodsandservices.Item;
+import model.pets.ExampleAnimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationLoopTest {
+    static final long TICK_NANOS = 10000000L;
+
+    GameEngine engine;
+    SimulationLoop loop;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        engine = new GameEngine(new Player(), new ExampleAnimal("Animal", "Aleph"));
+        loop = new SimulationLoop(engine, TICK_NANOS, 50);
+    }
+
+    @Test
+    void advanceByTest() {
+        assertEquals(2, loop.advanceBy(TICK_NANOS * 5 / 2));
+        assertEquals(0, loop.advanceBy(TICK_NANOS / 4));
+        assertEquals(1, loop.advanceBy(TICK_NANOS / 4));
+        assertEquals(3, engine.getTicksPassed());
+        assertEquals(3, loop.getTicksRun());
+        assertEquals(0, loop.getTicksDropped());
+        assertEquals(0, loop.getDriftNanos());
+        assertEquals(3, loop.getSnapshot().getTicksPassed());
+    }
+
+    @Test
+    void boundedCatchUpTest() {
+        assertEquals(50, loop.advanceBy(TICK_NANOS * 80));
+        assertEquals(30, loop.getTicksDropped());
+        assertEquals(TICK_NANOS * 30, loop.getDriftNanos());
+        assertEquals(TICK_NANOS * 80, loop.getMaxBacklogNanos());
+
+        assertEquals(1, loop.advanceBy(TICK_NANOS));
+        assertEquals(51, engine.getTicksPassed());
+    }
+
+    @Test
+    void snapshotTest() throws IOException {
+        GameSnapshot before = loop.getSnapshot();
+        for (int i = 0; i < GameEngine.TICKS_PER_SECOND; i++) {
+            loop.advanceBy(TICK_NANOS * 50);
+        }
+
+        GameSnapshot after = loop.getSnapshot();
+        assertEquals(0, before.getSecondsPassed());
+        assertEquals(5000, before.getMoney());
+        assertEquals(100, before.getHappiness());
+        assertEquals("Aleph", before.getPetBreed());
+        assertEquals(engine.getPet().getLikes(), before.getPetLikes());
+        assertThrows(UnsupportedOperationException.class, () -> before.getPetDislikes().add("Chicken"));
+        assertEquals(50, after.getSecondsPassed());
+        assertEquals(5000 + 50 * 20, after.getMoney());
+        assertEquals(90, after.getHappiness());
+        assertEquals(engine.getShopByName(GameEngine.DEFAULT_SHOP_NAME).getShopItems(),
+                after.getShopItems(GameEngine.DEFAULT_SHOP_NAME));
+        assertEquals(engine.getShopByName(GameEngine.DEFAULT_SHOP_NAME).getPriceOfItems(),
+                after.getShopPrices(GameEngine.DEFAULT_SHOP_NAME));
+        assertTrue(after.getShopItems("No Such Shop").isEmpty());
+        assertTrue(after.getShopPrices("No Such Shop").isEmpty());
+    }
+
+    @Test
+    void snapshotShopPricesTest() throws IOException {
+        Item item = engine.getShopByName(GameEngine.DEFAULT_SHOP_NAME).getShopItems().get(0);
+        loop.call(game -> {
+            game.getShopByName(GameEngine.DEFAULT_SHOP_NAME).setItemPrice(item, item.getPrice() + 7);
+            return null;
+        });
+
+        GameSnapshot snapshot = loop.getSnapshot();
+        assertEquals(item, snapshot.getShopItems(GameEngine.DEFAULT_SHOP_NAME).get(0));
+        assertEquals(item.getPrice() + 7, snapshot.getShopPrices(GameEngine.DEFAULT_SHOP_NAME).get(0));
+    }
+
+    @Test
+    void commandsTest() throws IOException {
+        Item chicken = new Item("Chicken", "Food");
+        CompletableFuture<Integer> money = loop.submit(game -> {
+            game.getPlayer().addToInventory(chicken, 2);
+            return game.getPlayer().getMoney();
+        });
+        assertFalse(money.isDone());
+
+        loop.advanceBy(0);
+        assertEquals(5000, money.join());
+        assertEquals(1, loop.getSnapshot().getInventoryItems().size());
+        assertEquals(2, loop.getSnapshot().getInventoryCounts().get(0));
+
+        assertEquals(0, loop.call(GameEngine::getTicksPassed));
+        assertThrows(IOException.class, () -> loop.call(game -> {
+            throw new IOException();
+        }));
+    }
+
+    @Test
+    void threadTest() throws IOException {
+        SimulationLoop fastLoop = new SimulationLoop(engine, 1000000L, 1000);
+        fastLoop.start();
+        assertTrue(fastLoop.isRunning());
+
+        assertEquals("simulation", fastLoop.call(game -> Thread.currentThread().getName()));
+
+        fastLoop.stop();
+        assertFalse(fastLoop.isRunning());
+        assertEquals(engine.getTicksPassed(), fastLoop.getTicksRun());
+        assertEquals(engine.getTicksPassed(), fastLoop.getSnapshot().getTicksPassed());
+        assertTrue(fastLoop.getDriftNanos() >= 0);
+    }
+
+    @Test
+    void parksUntilNextEventTest() {
+        SimulationLoop fastLoop = new SimulationLoop(engine, 1000000L, 1000);
+        assertEquals(100 * 1000000L, fastLoop.nanosUntilNextEvent());
+        assertEquals(2, fastLoop.advanceBy(1000000L * 5 / 2));
+        assertEquals(98 * 1000000L - 500000L, fastLoop.nanosUntilNextEvent());
+
+        assertEquals(98, fastLoop.advanceBy(fastLoop.nanosUntilNextEvent()));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(100, fastLoop.advanceBy(fastLoop.nanosUntilNextEvent()));
+        }
+        assertEquals(500, fastLoop.getTicksRun());
+        assertEquals(500, engine.getTicksPassed());
+        assertEquals(5, fastLoop.getSnapshot().getSecondsPassed());
+        assertEquals(0, fastLoop.getTicksDropped());
+
+        assertEquals(50 * TICK_NANOS, loop.nanosUntilNextEvent());
+    }
+}
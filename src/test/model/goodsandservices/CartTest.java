@@ -0,0 +1,50 @@
+package model.goodsandservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CartTest {
+    Cart cart;
+    ItemCatalog catalog;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        cart = new Cart();
+        catalog = ItemCatalog.getInstance();
+    }
+
+    @Test
+    void addTest() {
+        Item bone = catalog.getItem("Bone", "Toy");
+        Item grapes = catalog.getItem("Grapes", "Food");
+        assertTrue(cart.isEmpty());
+
+        cart.add(grapes, 2).add(bone, 1).add(grapes, 3);
+        assertEquals(2, cart.size());
+        assertEquals(grapes, cart.getItem(0));
+        assertEquals(5, cart.getQuantity(0));
+        assertEquals(1, cart.getQuantity(bone));
+        assertEquals(0, cart.getQuantity(catalog.getItem("Blob", "Unknown")));
+        assertEquals(6, cart.getTotalQuantity());
+
+        cart.clear();
+        assertTrue(cart.isEmpty());
+        assertEquals(0, cart.getQuantity(grapes));
+    }
+
+    @Test
+    void addManyTest() {
+        for (int id = 0; id < catalog.size(); id++) {
+            cart.add(catalog.getItem(id), id + 1);
+        }
+
+        assertEquals(catalog.size(), cart.size());
+        for (int id = 0; id < catalog.size(); id++) {
+            assertEquals(id + 1, cart.getQuantity(catalog.getItem(id)));
+        }
+    }
+}
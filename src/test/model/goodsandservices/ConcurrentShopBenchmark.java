@@ -0,0 +1,59 @@
+package model.goodsandservices;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+// represents a benchmark of how many purchases a ConcurrentShop takes per second as buyers are added;
+// each buyer buys its own item, so with enough cores the purchases per second should grow with the buyers;
+// it is run by hand rather than as a test, since its numbers depend on the machine and on what else is running
+public class ConcurrentShopBenchmark {
+    private static final long MEASURE_NANOS = 1000000000L;
+
+    // EFFECTS: prints the purchases per second made by 1 up to as many buyers as there are cores
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ConcurrentShop shop = new ConcurrentShop("Kira Kira Pets");
+        ArrayList<Item> items = new ArrayList<>(ItemCatalog.getInstance().getItems());
+        int buyers = Math.min(cores, items.size());
+
+        shop.setPricingEngine(new PricingEngine(60, 600, 10, 1, 2));
+        for (int i = 0; i < buyers; i++) {
+            shop.addShopItem(items.get(i), Integer.MAX_VALUE / 2);
+        }
+
+        for (int threads = 1; threads <= buyers; threads *= 2) {
+            System.out.println(threads + " buyers: " + purchasesPerSecond(shop, items, threads) + " purchases/s");
+        }
+    }
+
+    // EFFECTS: returns the purchases per second made by threads buyers, each buying its own item of items
+    //          from shop for MEASURE_NANOS
+    private static long purchasesPerSecond(ConcurrentShop shop, ArrayList<Item> items, int threads)
+            throws InterruptedException {
+        AtomicLong bought = new AtomicLong();
+        ArrayList<Thread> buyers = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            Item item = items.get(i);
+            buyers.add(new Thread(() -> {
+                long count = 0;
+                long end = System.nanoTime() + MEASURE_NANOS;
+                while (System.nanoTime() < end) {
+                    if (shop.takeFromStock(item, 1)) {
+                        shop.recordPurchase(item, 1);
+                        count++;
+                    }
+                }
+                bought.addAndGet(count);
+            }));
+        }
+        for (Thread buyer : buyers) {
+            buyer.start();
+        }
+        for (Thread buyer : buyers) {
+            buyer.join();
+        }
+        return bought.get() * 1000000000L / MEASURE_NANOS;
+    }
+}
@@ -0,0 +1,149 @@
+package model.goodsandservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentShopTest {
+    static final int THREADS = 8;
+    static final int PURCHASES = 10000;
+
+    ConcurrentShop shop;
+    Item chicken;
+    Item bone;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        shop = new ConcurrentShop("Kira Kira Pets");
+        chicken = new Item("Chicken", "Food");
+        bone = new Item("Bone", "Toy");
+        shop.addShopItem(chicken, 5);
+        shop.addShopItem(bone, 2);
+    }
+
+    @Test
+    void takeFromStockTest() throws IOException {
+        assertTrue(shop.takeFromStock(chicken, 5));
+        assertFalse(shop.takeFromStock(chicken, 1));
+        assertFalse(shop.takeFromStock(new Item("Blob", "Unknown"), 1));
+
+        assertTrue(shop.checkIsInShop(chicken));
+        assertEquals(new ArrayList<>(Arrays.asList(0, 2)), shop.getQuantityInStock());
+
+        shop.changeItemQuantity(chicken, 3);
+        shop.changeItemQuantity(bone, -5);
+        assertEquals(new ArrayList<>(Arrays.asList(3, 2)), shop.getQuantityInStock());
+    }
+
+    @Test
+    void takeCartFromStockTest() {
+        assertFalse(shop.takeFromStock(new Cart().add(chicken, 2).add(bone, 3)));
+        assertEquals(new ArrayList<>(Arrays.asList(5, 2)), shop.getQuantityInStock());
+
+        assertTrue(shop.takeFromStock(new Cart().add(chicken, 2).add(bone, 2)));
+        assertEquals(new ArrayList<>(Arrays.asList(3, 0)), shop.getQuantityInStock());
+    }
+
+    @Test
+    void noOversellTest() throws InterruptedException {
+        shop.setItemQuantity(chicken, 20000);
+        shop.setItemQuantity(bone, 7000);
+        AtomicInteger chickensSold = new AtomicInteger();
+        AtomicInteger cartsSold = new AtomicInteger();
+
+        runOnThreads(() -> {
+            boolean selling = true;
+            while (selling) {
+                selling = false;
+                if (shop.takeFromStock(chicken, 1)) {
+                    chickensSold.incrementAndGet();
+                    selling = true;
+                }
+                if (shop.takeFromStock(new Cart().add(bone, 1).add(chicken, 1))) {
+                    cartsSold.incrementAndGet();
+                    selling = true;
+                }
+            }
+        });
+
+        assertEquals(20000, chickensSold.get() + cartsSold.get());
+        assertTrue(cartsSold.get() <= 7000);
+        assertEquals(0, shop.getItemQuantity(chicken));
+        assertEquals(7000 - cartsSold.get(), shop.getItemQuantity(bone));
+    }
+
+    @Test
+    void buyWhileRestockingTest() throws InterruptedException {
+        shop.setItemQuantity(chicken, 0);
+        shop.setItemQuantity(bone, 0);
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch restocked = new CountDownLatch(1);
+
+        Thread restocker = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                shop.stockAllExisting(1);
+            }
+            restocked.countDown();
+        });
+        restocker.start();
+
+        runOnThreads(() -> {
+            while (restocked.getCount() > 0 || shop.getItemQuantity(chicken) > 0) {
+                if (shop.takeFromStock(chicken, 1)) {
+                    sold.incrementAndGet();
+                }
+            }
+        });
+        restocker.join();
+
+        assertEquals(1000, sold.get());
+        assertEquals(1000, shop.getItemQuantity(bone));
+    }
+
+    @Test
+    void concurrentPurchasesTest() throws InterruptedException {
+        PricingEngine pricing = new PricingEngine(60, 600, 10, 1, 2);
+        shop.setPricingEngine(pricing);
+        shop.setItemQuantity(chicken, THREADS * PURCHASES);
+        shop.setItemQuantity(bone, THREADS * PURCHASES);
+        AtomicInteger failed = new AtomicInteger();
+
+        runOnThreads(() -> {
+            for (int i = 0; i < PURCHASES; i++) {
+                Item item = (i % 2 == 0) ? chicken : bone;
+                if (shop.takeFromStock(item, 1)) {
+                    shop.recordPurchase(item, 1);
+                } else {
+                    failed.incrementAndGet();
+                }
+            }
+        });
+
+        assertEquals(0, failed.get());
+        assertEquals(THREADS * PURCHASES / 2, shop.getItemQuantity(chicken));
+        assertEquals(THREADS * PURCHASES / 2, shop.getItemQuantity(bone));
+        assertEquals(THREADS * PURCHASES / 2, pricing.getDemand(chicken), 1e-9);
+        assertEquals(THREADS * PURCHASES / 2, pricing.getDemand(bone), 1e-9);
+    }
+
+    // EFFECTS: runs buyer on THREADS threads at once and waits for all of them to finish
+    private void runOnThreads(Runnable buyer) throws InterruptedException {
+        ArrayList<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            threads.add(new Thread(buyer));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package model.goodsandservices;
+
+import model.pets.ExampleAnimal;
+import model.pets.ItemEffectTable;
+import model.pets.Pet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemCatalogTest {
+    ItemCatalog catalog;
+
+    @BeforeEach
+    void runBefore() {
+        try {
+            catalog = ItemCatalog.getInstance();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Test
+    void getInstanceTest() throws IOException {
+        assertSame(catalog, ItemCatalog.getInstance());
+    }
+
+    @Test
+    void getItemTest() {
+        Item chickenFood = catalog.getItem("Chicken", "Food");
+        Item chickenToy = catalog.getItem("Chicken", "Toy");
+
+        assertEquals(230, chickenFood.getPrice());
+        assertEquals(380, chickenToy.getPrice());
+        assertNull(catalog.getItem("Chicken", "Unknown"));
+    }
+
+    @Test
+    void getItemByIdTest() {
+        for (int id = 0; id < catalog.size(); id++) {
+            Item item = catalog.getItem(id);
+            assertEquals(id, item.getId());
+            assertSame(item, catalog.getItem(item.getName(), item.getType()));
+        }
+    }
+
+    @Test
+    void containsItemTest() {
+        assertTrue(catalog.containsItem("Bone", "Toy"));
+        assertFalse(catalog.containsItem("Bone", "Food"));
+    }
+
+    @Test
+    void getAllItemsTest() {
+        ArrayList<Item> allItems = catalog.getAllItems();
+        assertEquals(catalog.size(), allItems.size());
+        assertEquals("Bone", allItems.get(0).getName());
+
+        allItems.clear();
+        assertNotEquals(0, catalog.getAllItems().size());
+    }
+
+    @Test
+    void getItemsOfTypeTest() {
+        assertEquals(names("Chicken", "Chocolate", "Grapes", "Salmon Chunks"),
+                namesOf(catalog.getItemsOfType("Food")));
+        assertTrue(catalog.getItemsOfType("Drink").isEmpty());
+    }
+
+    @Test
+    void getItemsPricedBetweenTest() {
+        assertEquals(names("Grapes", "Salmon Chunks", "Chocolate"),
+                namesOf(catalog.getItemsPricedBetween("Food", 0, 200)));
+        assertEquals(names("Salmon Chunks", "Tug O' Rope", "Ball of Yarn", "Blob"),
+                namesOf(catalog.getItemsPricedBetween(null, 80, 100)));
+        assertTrue(catalog.getItemsPricedBetween("Toy", 390, Integer.MAX_VALUE).isEmpty());
+        assertTrue(catalog.getItemsPricedBetween("Drink", 0, 1000).isEmpty());
+    }
+
+    @Test
+    void careStatIndexesTest() {
+        assertEquals(names("Chicken"), namesOf(catalog.getBestItemsFor(Item.THIRST, 1)));
+        assertEquals(names("Blob", "Chicken"), namesOf(catalog.getBestItemsFor(Item.HAPPINESS, 2)));
+        assertEquals(catalog.size(), catalog.getBestItemsFor(Item.HEALTH, 100).size());
+        assertEquals(names("Blob"), namesOf(catalog.getItemsWithCarePointsBetween(Item.HEALTH, -10, 0)));
+
+        assertEquals(names("Chicken"), namesOf(catalog.getItemsDominantIn(Item.HUNGER)));
+        assertEquals("Food", catalog.getItemsDominantIn(Item.HUNGER).get(0).getType());
+        assertTrue(catalog.getItemsDominantIn(Item.THIRST).isEmpty());
+    }
+
+    // EFFECTS: returns names as a list
+    private List<String> names(String... names) {
+        return Arrays.asList(names);
+    }
+
+    // EFFECTS: returns the names of items in order
+    private List<String> namesOf(List<Item> items) {
+        ArrayList<String> names = new ArrayList<>();
+        for (Item item : items) {
+            names.add(item.getName());
+        }
+        return names;
+    }
+
+    @Test
+    void reloadTest() throws IOException {
+        ItemCatalog reloaded = ItemCatalog.reload();
+
+        assertSame(reloaded, ItemCatalog.getInstance());
+        assertNotSame(catalog, reloaded);
+        assertEquals(catalog.size(), reloaded.size());
+        assertEquals(catalog.getItem("Bone", "Toy"), reloaded.getItem("Bone", "Toy"));
+    }
+
+    @Test
+    void reloadKeepsIdsTest() throws IOException {
+        File itemsFile = File.createTempFile("testItems", ".json");
+        File compiledFile = File.createTempFile("testItems", ".bin");
+        compiledFile.delete();
+
+        try {
+            writeItems(itemsFile, "A", "B", "C");
+            ItemCatalog first = new ItemCatalog(itemsFile, compiledFile, null);
+            writeItems(itemsFile, "D", "B");
+            ItemCatalog second = new ItemCatalog(itemsFile, compiledFile, first);
+
+            assertEquals(4, second.size());
+            assertEquals(1, second.getItem("B", "Toy").getId());
+            assertEquals(3, second.getItem("D", "Toy").getId());
+            assertNull(second.getItem(0));
+            assertNull(second.getItem("A", "Toy"));
+            assertEquals(2, second.getAllItems().size());
+            assertEquals("A", first.getItem(0).getName());
+        } finally {
+            itemsFile.delete();
+            compiledFile.delete();
+        }
+    }
+
+    @Test
+    void publishReachesShopsAndPetsTest() throws IOException {
+        ItemCatalog original = ItemCatalog.getInstance();
+        Item chicken = original.getItem("Chicken", "Food");
+        Shop shop = new LocalShop("Shop");
+        Pet pet = new ExampleAnimal("Pet", "Aleph");
+        pet.setHunger(0);
+        pet.consumeItem(chicken);
+        int hungerGain = pet.getHunger();
+        File itemsFile = File.createTempFile("testItems", ".json");
+        File compiledFile = File.createTempFile("testItems", ".bin");
+        compiledFile.delete();
+
+        try {
+            writeItems(itemsFile, "New");
+            appendItem(itemsFile, "{\"itemName\": \"Chicken\", \"itemType\": \"Food\", "
+                    + "\"carePoints\": [0, " + (chicken.getHungerPoints() + 7) + ", 0, 0], \"price\": 10}");
+            ItemCatalog.publish(new ItemCatalog(itemsFile, compiledFile, original));
+
+            shop.stockWithRandomItems(5, 1);
+            assertEquals(2, shop.getShopItems().size());
+            assertTrue(shop.checkIsInShop(ItemCatalog.getInstance().getItem("New", "Toy")));
+
+            pet.setHunger(0);
+            pet.consumeItem(chicken);
+            assertEquals(ItemEffectTable.factorGain(chicken.getHungerPoints() + 7,
+                    ItemEffectTable.gainMultiplier(pet.getLikes().contains("Chicken"),
+                            pet.getDislikes().contains("Chicken"))), pet.getHunger());
+            assertNotEquals(hungerGain, pet.getHunger());
+        } finally {
+            ItemCatalog.publish(original);
+            itemsFile.delete();
+            compiledFile.delete();
+        }
+    }
+
+    // MODIFIES: itemsFile
+    // EFFECTS: adds the item written as itemJson to the end of the items in itemsFile
+    private void appendItem(File itemsFile, String itemJson) throws IOException {
+        String items = new String(Files.readAllBytes(itemsFile.toPath()));
+        try (FileWriter writer = new FileWriter(itemsFile)) {
+            writer.write(items.substring(0, items.length() - 2) + ", " + itemJson + "]}");
+        }
+    }
+
+    // MODIFIES: itemsFile
+    // EFFECTS: replaces the contents of itemsFile with a Toy for each of names
+    private void writeItems(File itemsFile, String... names) throws IOException {
+        StringBuilder items = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < names.length; i++) {
+            items.append(i == 0 ? "" : ", ").append("{\"itemName\": \"").append(names[i])
+                    .append("\", \"itemType\": \"Toy\", \"carePoints\": [1, 2, 3, 4], \"price\": 10}");
+        }
+
+        try (FileWriter writer = new FileWriter(itemsFile)) {
+            writer.write(items.append("]}").toString());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package model.goodsandservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemSlotMapTest {
+    ItemSlotMap slots;
+
+    @BeforeEach
+    void runBefore() {
+        slots = new ItemSlotMap();
+    }
+
+    @Test
+    void putGetRemoveTest() {
+        assertEquals(-1, slots.get(3));
+
+        slots.put(3, 0);
+        slots.put(11, 1);
+        slots.put(3, 5);
+        assertEquals(5, slots.get(3));
+        assertEquals(1, slots.get(11));
+        assertEquals(2, slots.size());
+
+        slots.remove(3);
+        slots.remove(42);
+        assertEquals(-1, slots.get(3));
+        assertEquals(1, slots.get(11));
+        assertEquals(1, slots.size());
+
+        slots.clear();
+        assertEquals(-1, slots.get(11));
+        assertEquals(0, slots.size());
+    }
+
+    @Test
+    void matchesHashMapTest() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(210);
+
+        for (int i = 0; i < 20000; i++) {
+            int id = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                slots.remove(id);
+                expected.remove(id);
+            } else {
+                slots.put(id, i);
+                expected.put(id, i);
+            }
+        }
+
+        assertEquals(expected.size(), slots.size());
+        for (int id = 0; id < 500; id++) {
+            assertEquals(expected.getOrDefault(id, -1), slots.get(id));
+        }
+    }
+}
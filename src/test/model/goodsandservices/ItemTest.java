@@ -76,4 +76,24 @@ class ItemTest {
         assertEquals(0, item3.getThirstPoints());
         assertEquals(16, item3.getHealthPoints());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getIdTest() throws IOException {
+        ItemCatalog catalog = ItemCatalog.getInstance();
+
+        assertEquals(item1, catalog.getItem(item1.getId()));
+        assertEquals(item2, catalog.getItem(item2.getId()));
+        assertNotEquals(item1.getId(), item3.getId());
+    }
+
+    @Test
+    void equalsTest() throws IOException {
+        Item otherChicken = new Item("Chicken", "Food");
+
+        assertEquals(item1, otherChicken);
+        assertEquals(item1.hashCode(), otherChicken.hashCode());
+        assertNotEquals(item1, item3);
+        assertNotEquals(item1, null);
+        assertNotEquals(item1, "Chicken");
+    }
+}
@@ -0,0 +1,105 @@
+package model.goodsandservices;
+
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingEngineTest {
+    PricingEngine engine;
+    Shop shop;
+    Item chicken;
+    Item bone;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        engine = new PricingEngine(30, 100, 10, 0.5, 2.0);
+        shop = new LocalShop("Shop");
+        chicken = new Item("Chicken", "Food");
+        bone = new Item("Bone", "Toy");
+
+        shop.addShopItem(chicken, 100);
+        shop.addShopItem(bone, 100);
+        shop.setPricingEngine(engine);
+    }
+
+    @Test
+    void demandDecaysTest() {
+        engine.recordPurchase(chicken, 8);
+        assertEquals(8, engine.getDemand(chicken), 1e-9);
+        assertEquals(0, engine.getDemand(bone), 1e-9);
+
+        engine.advanceTo(100, shop);
+        assertEquals(4, engine.getDemand(chicken), 1e-9);
+
+        engine.recordPurchase(chicken, 2);
+        engine.advanceTo(300, shop);
+        assertEquals(1.5, engine.getDemand(chicken), 1e-9);
+    }
+
+    @Test
+    void demandSurvivesClockChangesTest() {
+        engine.advanceTo(500, shop);
+        engine.recordPurchase(chicken, 8);
+        engine.advanceTo(200, shop);
+        assertEquals(8, engine.getDemand(chicken), 1e-9);
+
+        engine.advanceTo(300, shop);
+        assertEquals(4, engine.getDemand(chicken), 1e-9);
+
+        engine.advanceTo(10000000, shop);
+        engine.recordPurchase(bone, 4);
+        engine.advanceTo(10000100, shop);
+        assertEquals(0, engine.getDemand(chicken), 1e-9);
+        assertEquals(2, engine.getDemand(bone), 1e-9);
+    }
+
+    @Test
+    void priceForTest() {
+        assertEquals(chicken.getPrice() / 2, engine.priceFor(chicken));
+
+        engine.recordPurchase(chicken, 10);
+        assertEquals(Math.round(chicken.getPrice() * 1.25), engine.priceFor(chicken));
+
+        engine.recordPurchase(chicken, 1000000);
+        assertEquals(chicken.getPrice() * 2, engine.priceFor(chicken), 1);
+    }
+
+    @Test
+    void advanceToTest() {
+        engine.recordPurchase(bone, 10);
+
+        assertFalse(engine.advanceTo(29, shop));
+        assertEquals(chicken.getPrice(), shop.getItemPrice(chicken));
+
+        assertTrue(engine.advanceTo(30, shop));
+        assertEquals(engine.priceFor(chicken), shop.getItemPrice(chicken));
+        assertEquals(engine.priceFor(bone), shop.getItemPrice(bone));
+        assertTrue(shop.getItemPrice(bone) > shop.getItemPrice(chicken) * bone.getPrice() / chicken.getPrice());
+        assertEquals(60, engine.getNextReprice());
+
+        assertTrue(engine.advanceTo(1000, shop));
+        assertEquals(1030, engine.getNextReprice());
+        assertFalse(engine.advanceTo(1029, shop));
+
+        assertFalse(engine.advanceTo(5, shop));
+        assertEquals(35, engine.getNextReprice());
+    }
+
+    @Test
+    void buyingRecordsDemandTest() {
+        Player player = new Player();
+        player.setMoney(100000);
+
+        assertTrue(player.buyItemFrom(chicken, 3, shop));
+        assertTrue(player.buyItemsFrom(new Cart().add(chicken, 2).add(bone, 1), shop));
+        assertEquals(5, engine.getDemand(chicken), 1e-9);
+        assertEquals(1, engine.getDemand(bone), 1e-9);
+
+        shop.advancePricing(30);
+        assertEquals(engine.priceFor(chicken), shop.getItemPrice(chicken));
+    }
+}
@@ -0,0 +1,113 @@
+package model.goodsandservices;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestockSchedulerTest {
+    RestockScheduler scheduler;
+    Item chicken;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        scheduler = new RestockScheduler();
+        chicken = new Item("Chicken", "Food");
+    }
+
+    @Test
+    void runDueTest() throws IOException {
+        Shop everyTen = shopWithChicken("Ten");
+        Shop everyFour = shopWithChicken("Four");
+        scheduler.schedule(everyTen, new RestockPolicy(10, 1, 0, 1), 0);
+        scheduler.schedule(everyFour, new RestockPolicy(4, 2, 0, 1), 0);
+        assertEquals(4, scheduler.getNextDeadline());
+
+        assertEquals(0, scheduler.runDue(3));
+        assertEquals(1, scheduler.runDue(4));
+        assertEquals(3, everyFour.getItemQuantity(chicken));
+        assertEquals(8, scheduler.getNextDeadline());
+
+        assertEquals(3, scheduler.runDue(12));
+        assertEquals(2, everyTen.getItemQuantity(chicken));
+        assertEquals(7, everyFour.getItemQuantity(chicken));
+        assertEquals(16, scheduler.getDeadline(everyFour));
+        assertEquals(20, scheduler.getDeadline(everyTen));
+    }
+
+    @Test
+    void catchUpTest() throws IOException {
+        Shop everyTen = shopWithChicken("Ten");
+        Shop everyFour = shopWithChicken("Four");
+        scheduler.schedule(everyTen, new RestockPolicy(10, 1, 0, 1), 0);
+        scheduler.schedule(everyFour, new RestockPolicy(4, 2, 0, 1), 0);
+
+        assertEquals(0, scheduler.catchUp(3));
+        assertEquals(2, scheduler.catchUp(1000000));
+        assertEquals(2, everyTen.getItemQuantity(chicken));
+        assertEquals(3, everyFour.getItemQuantity(chicken));
+        assertEquals(1000010, scheduler.getDeadline(everyTen));
+        assertEquals(1000004, scheduler.getDeadline(everyFour));
+
+        assertEquals(1, scheduler.catchUp(1000004));
+        assertEquals(1000008, scheduler.getDeadline(everyFour));
+    }
+
+    @Test
+    void newItemsTest() throws IOException {
+        Shop shop = new LocalShop("New");
+        scheduler.schedule(shop, new RestockPolicy(5, 0, 2, 3), 0);
+
+        scheduler.runDue(5);
+        assertEquals(2, shop.getShopItems().size());
+        assertEquals(3, shop.getQuantityInStock().get(0));
+    }
+
+    @Test
+    void scheduleAndUnscheduleTest() throws IOException {
+        Shop shop = shopWithChicken("Shop");
+        scheduler.schedule(shop, new RestockPolicy(5, 1, 0, 1), 0);
+        scheduler.schedule(shop, new RestockPolicy(3, 1, 0, 1), 1);
+        assertEquals(1, scheduler.size());
+        assertEquals(4, scheduler.getDeadline(shop));
+
+        scheduler.unschedule(shop);
+        assertEquals(RestockScheduler.NO_DEADLINE, scheduler.getNextDeadline());
+        assertEquals(RestockScheduler.NO_DEADLINE, scheduler.getDeadline(shop));
+        assertEquals(0, scheduler.runDue(100));
+    }
+
+    @Test
+    void manyShopsTest() throws IOException {
+        ArrayList<Shop> shops = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            Shop shop = shopWithChicken("Shop" + i);
+            shops.add(shop);
+            scheduler.schedule(shop, new RestockPolicy(i, 1, 0, 1), 0);
+        }
+        for (int i = 0; i < 300; i += 3) {
+            scheduler.unschedule(shops.get(i));
+        }
+
+        long previous = 0;
+        for (int second = 1; second <= 600; second++) {
+            assertTrue(scheduler.getNextDeadline() >= previous);
+            previous = scheduler.getNextDeadline();
+            scheduler.runDue(second);
+        }
+        for (int i = 0; i < 300; i++) {
+            int expected = (i % 3 == 0) ? 1 : 1 + 600 / (i + 1);
+            assertEquals(expected, shops.get(i).getItemQuantity(chicken));
+        }
+    }
+
+    // EFFECTS: returns a shop named shopName selling 1 chicken
+    private Shop shopWithChicken(String shopName) throws IOException {
+        Shop shop = new LocalShop(shopName);
+        shop.addShopItem(chicken, 1);
+        return shop;
+    }
+}
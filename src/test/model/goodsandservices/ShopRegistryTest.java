@@ -0,0 +1,104 @@
+package model.goodsandservices;
+
+import org.json.JSONArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShopRegistryTest {
+    ShopRegistry registry;
+    Shop first;
+    Shop second;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        registry = new ShopRegistry();
+        first = new LocalShop("First");
+        second = new LocalShop("Second");
+    }
+
+    @Test
+    void addAndGetTest() throws IOException {
+        assertNull(registry.add(first));
+        assertNull(registry.add(second));
+        assertEquals(2, registry.size());
+        assertSame(first, registry.get("First"));
+        assertSame(second, registry.get("Second"));
+        assertNull(registry.get("Third"));
+        assertTrue(registry.contains("First"));
+        assertFalse(registry.contains("Third"));
+
+        Shop newFirst = new LocalShop("First");
+        assertSame(first, registry.add(newFirst));
+        assertEquals(2, registry.size());
+        assertSame(newFirst, registry.get("First"));
+    }
+
+    @Test
+    void removeTest() {
+        registry.add(first);
+        registry.add(second);
+
+        assertSame(first, registry.remove("First"));
+        assertNull(registry.remove("First"));
+        assertEquals(1, registry.size());
+        assertFalse(registry.contains("First"));
+
+        registry.clear();
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    void sharedTest() throws IOException {
+        assertNull(registry.addShared(first));
+        registry.add(second);
+        assertTrue(registry.isShared(first));
+        assertFalse(registry.isShared(second));
+        assertFalse(registry.isShared(new LocalShop("First")));
+
+        JSONArray shopsArray = registry.toJsonArray();
+        assertEquals(1, shopsArray.length());
+        assertEquals("Second", shopsArray.getJSONObject(0).getString("name"));
+
+        Shop ownFirst = new LocalShop("First");
+        assertSame(first, registry.add(ownFirst));
+        assertFalse(registry.isShared(ownFirst));
+        registry.addShared(first);
+        registry.remove("First");
+        assertFalse(registry.isShared(first));
+    }
+
+    @Test
+    void orderTest() throws IOException {
+        for (int i = 0; i < 100; i++) {
+            registry.add(new LocalShop("Shop " + i));
+        }
+
+        ArrayList<Shop> shops = registry.getShops();
+        Iterator<Shop> iterator = registry.iterator();
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Shop " + i, shops.get(i).getShopName());
+            assertSame(shops.get(i), iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(UnsupportedOperationException.class, () -> registry.iterator().remove());
+    }
+
+    @Test
+    void toJsonArrayTest() throws IOException {
+        first.addShopItem(new Item("Chicken", "Food"), 3);
+        registry.add(first);
+        registry.add(second);
+
+        JSONArray shopsArray = registry.toJsonArray();
+        assertEquals(2, shopsArray.length());
+        assertEquals("First", shopsArray.getJSONObject(0).getString("name"));
+        assertEquals(3, shopsArray.getJSONObject(0).getJSONArray("quantities").getInt(0));
+        assertEquals("Second", shopsArray.getJSONObject(1).getString("name"));
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,8 +24,8 @@ class ShopTest {
     @BeforeEach
     void runBefore() {
         try {
-            shop1 = new Shop("Shop1");
-            shop2 = new Shop("Shop2");
+            shop1 = new LocalShop("Shop1");
+            shop2 = new LocalShop("Shop2");
 
             item1 = new Item("Chicken", "Food");
             item2 = new Item("Squeaky Mouse", "Toy");
@@ -78,6 +81,27 @@ class ShopTest {
         assertEquals(expectedVal1C, shop1.getQuantityInStock());
     }
 
+    @Test
+    void removeShopItemMovesLastTest() {
+        shop1.addShopItem(item3, 30);
+        shop1.removeShopItem(item1);
+
+        assertEquals(new ArrayList<>(Arrays.asList(item3, item2)), shop1.getShopItems());
+        assertEquals(new ArrayList<>(Arrays.asList(item3.getPrice(), item2.getPrice())), shop1.getPriceOfItems());
+        assertEquals(new ArrayList<>(Arrays.asList(30, 10)), shop1.getQuantityInStock());
+        assertEquals(30, shop1.getItemQuantity(item3));
+        assertFalse(shop1.checkIsInShop(item1));
+    }
+
+    @Test
+    void gettersAreCopiesTest() {
+        shop1.getShopItems().clear();
+        shop1.getQuantityInStock().set(0, 999);
+
+        assertEquals(2, shop1.getShopItems().size());
+        assertEquals(20, shop1.getItemQuantity(item1));
+    }
+
     @Test
     void getItemQuantityTest() {
         assertEquals(20, shop1.getItemQuantity(item1));
@@ -170,15 +194,52 @@ class ShopTest {
     }
 
     @Test
-    void stockWithRandomItemsFullTest() {
+    void stockWithRandomItemsFullTest() throws IOException {
         shop1.setShopItems(new ArrayList<>());
         shop1.setPriceOfItems(new ArrayList<>());
         shop1.setQuantityInStock(new ArrayList<>());
 
-        shop1.stockWithRandomItems(shop1.allPossibleItems.size(), 10);
-        assertEquals(shop1.allPossibleItems.size(), shop1.getShopItems().size());
+        int possible = ItemCatalog.getInstance().getItems().size();
+        shop1.stockWithRandomItems(possible, 10);
+        assertEquals(possible, shop1.getShopItems().size());
         shop1.stockWithRandomItems(1, 10);
-        assertEquals(shop1.allPossibleItems.size(), shop1.getShopItems().size());
+        assertEquals(possible, shop1.getShopItems().size());
+    }
+
+    @Test
+    void stockWithRandomItemsMostlyFullTest() throws IOException {
+        List<Item> possible = ItemCatalog.getInstance().getItems();
+        shop1.setShopItems(new ArrayList<>(possible.subList(0, possible.size() - 3)));
+        shop1.setQuantityInStock(new ArrayList<>(Collections.nCopies(possible.size() - 3, 1)));
+
+        shop1.stockWithRandomItems(2, 10);
+        assertEquals(possible.size() - 1, shop1.getShopItems().size());
+        assertEquals(new HashSet<>(shop1.getShopItems()).size(), shop1.getShopItems().size());
+        assertEquals(10, shop1.getQuantityInStock().get(possible.size() - 2));
+    }
+
+    @Test
+    void stockWithRandomItemsCoversAllTest() throws IOException {
+        HashSet<Item> stocked = new HashSet<>();
+
+        for (int i = 0; i < 500; i++) {
+            Shop shop = new LocalShop("Shop");
+            shop.stockWithRandomItems(1, 1);
+            stocked.addAll(shop.getShopItems());
+        }
+        assertEquals(new HashSet<>(ItemCatalog.getInstance().getItems()), stocked);
+    }
+
+    @Test
+    void stockWithRandomItemsInBandTest() throws IOException {
+        Shop shop = new LocalShop("Shop");
+        shop.stockWithRandomItems("Food", 0, 200, 10, 5);
+
+        assertEquals(new HashSet<>(ItemCatalog.getInstance().getItemsPricedBetween("Food", 0, 200)),
+                new HashSet<>(shop.getShopItems()));
+        assertEquals(3, shop.getShopItems().size());
+        shop.stockWithRandomItems("Drink", 0, 200, 1, 5);
+        assertEquals(3, shop.getShopItems().size());
     }
 
     @Test
@@ -48,4 +48,54 @@ public class EventLogTest {
 		assertEquals("Event log cleared.", itr.next().getDescription());
 		assertFalse(itr.hasNext());
 	}
+
+	@Test
+	public void drainTest() {
+		EventLog session = new EventLog();
+		session.logEvent(e1);
+		session.logEvent(e2);
+
+		assertEquals(List.of(e1, e2), session.drain());
+		assertFalse(session.iterator().hasNext());
+		assertTrue(session.drain().isEmpty());
+		assertNotSame(EventLog.getInstance(), session);
+	}
+
+	@Test
+	public void capacityTest() {
+		EventLog session = new EventLog(2);
+		session.logEvent(e1);
+		session.logEvent(e2);
+		session.logEvent(e3);
+
+		assertEquals(2, session.size());
+		assertEquals(List.of(e2, e3), session.drain());
+		assertEquals(0, session.size());
+		session.logEvent(e1);
+		assertEquals(List.of(e1), session.drain());
+	}
+
+	@Test
+	public void logFromManyThreadsTest() throws InterruptedException {
+		EventLog el = EventLog.getInstance();
+		el.clear();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 1000; j++) {
+					el.logEvent(new Event("Tick"));
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		int count = 0;
+		for (Event ignored : el) {
+			count++;
+		}
+		assertEquals(1 + 4 * 1000, count);
+	}
 }
@@ -0,0 +1,116 @@
+package model.persistence;
+
+import model.configurables.FileLocations;
+import model.goodsandservices.ItemCatalog;
+import model.pets.BreedRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogServiceTest {
+    static final String NEW_ITEM = "{\"itemName\": \"Kira Kira Treat\", \"itemType\": \"Food\", "
+            + "\"carePoints\": [1, 2, 3, 4], \"price\": 5},";
+
+    File watchedDir;
+    File itemsFile;
+    File breedsDir;
+    File compiledDir;
+    ItemCatalog catalog;
+    BreedRegistry registry;
+    CatalogService service;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        watchedDir = Files.createTempDirectory("testCatalogs").toFile();
+        itemsFile = new File(watchedDir, "Items.json");
+        breedsDir = new File(watchedDir, "petBreeds");
+        compiledDir = new File(watchedDir, "compiled");
+        assertTrue(breedsDir.mkdir() && compiledDir.mkdir());
+        Files.copy(new File(FileLocations.itemsDir).toPath(), itemsFile.toPath());
+        for (String breedsFile : new String[] {FileLocations.dogBreedsDir, FileLocations.exampleBreedsDir}) {
+            Files.copy(new File(breedsFile).toPath(), new File(breedsDir, new File(breedsFile).getName()).toPath());
+        }
+
+        catalog = ItemCatalog.getInstance();
+        registry = BreedRegistry.getInstance();
+        registry.getBreedNames("Dog");
+        service = new CatalogService(itemsFile, breedsDir, compiledDir);
+    }
+
+    @AfterEach
+    void runAfter() throws IOException {
+        service.close();
+        BreedRegistry.publish(registry);
+        ItemCatalog.publish(catalog);
+        for (File dir : new File[] {breedsDir, compiledDir, watchedDir}) {
+            for (File file : dir.listFiles()) {
+                file.delete();
+            }
+        }
+        watchedDir.delete();
+    }
+
+    @Test
+    void reloadTest() throws IOException {
+        addItemToWatchedFile();
+        assertFalse(catalog.containsItem("Kira Kira Treat", "Food"));
+
+        service.reload();
+        assertEquals(1, service.getReloadCount());
+        assertTrue(ItemCatalog.getInstance().containsItem("Kira Kira Treat", "Food"));
+        assertEquals(catalog.getItem("Bone", "Toy"), ItemCatalog.getInstance().getItem("Bone", "Toy"));
+        assertSame(ItemCatalog.getInstance(), BreedRegistry.getInstance().getItemCatalog());
+        assertNotSame(registry, BreedRegistry.getInstance());
+        assertEquals(registry.getBreedNames("Dog"), BreedRegistry.getInstance().getBreedNames("Dog"));
+        assertTrue(new File(compiledDir, "Items.bin").isFile());
+        assertTrue(new File(compiledDir, "DogBreeds.bin").isFile());
+    }
+
+    @Test
+    void reloadUnreadableTest() throws IOException {
+        writeWatchedFile("{\"items\": [");
+        service.reload();
+
+        assertEquals(0, service.getReloadCount());
+        assertSame(catalog, ItemCatalog.getInstance());
+        assertSame(registry, BreedRegistry.getInstance());
+    }
+
+    @Test
+    void reloadOnChangeTest() throws IOException, InterruptedException {
+        service.start();
+        try (FileWriter writer = new FileWriter(new File(watchedDir, "notes.txt"))) {
+            writer.write("not a catalog");
+        }
+        addItemToWatchedFile();
+
+        for (int waited = 0; waited < 10000 && service.getReloadCount() == 0; waited += 50) {
+            Thread.sleep(50);
+        }
+        assertTrue(service.getReloadCount() >= 1);
+        assertTrue(ItemCatalog.getInstance().containsItem("Kira Kira Treat", "Food"));
+    }
+
+    // MODIFIES: itemsFile
+    // EFFECTS: lists NEW_ITEM first in the watched items file
+    private void addItemToWatchedFile() throws IOException {
+        String contents = new String(Files.readAllBytes(itemsFile.toPath()), StandardCharsets.UTF_8);
+        writeWatchedFile(contents.replaceFirst("\\[", "[" + NEW_ITEM));
+    }
+
+    // MODIFIES: itemsFile
+    // EFFECTS: replaces the contents of the watched items file with contents
+    private void writeWatchedFile(String contents) throws IOException {
+        try (FileWriter writer = new FileWriter(itemsFile)) {
+            writer.write(contents);
+        }
+    }
+}
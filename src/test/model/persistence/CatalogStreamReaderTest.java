@@ -0,0 +1,67 @@
+package model.persistence;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogStreamReaderTest {
+
+    @Test
+    void readItemsFileTest() throws IOException {
+        ArrayList<String> names = new ArrayList<>();
+
+        try (CatalogStreamReader reader = new CatalogStreamReader(new File("data/Items.json"))) {
+            assertEquals("items", reader.nextKey());
+            reader.readArray(entry -> names.add(((JSONObject) entry).getString("itemName")));
+            assertNull(reader.nextKey());
+        }
+
+        assertEquals(10, names.size());
+        assertEquals("Bone", names.get(0));
+        assertEquals("Blob", names.get(9));
+    }
+
+    @Test
+    void readArraysAndSkipTest() {
+        String catalog = "{\"skipped\": {\"a\": [1, 2]}, \"empty\": [], \"noises\": [\"A\", \"B\"]}";
+        CatalogStreamReader reader = new CatalogStreamReader(new StringReader(catalog));
+        ArrayList<Object> entries = new ArrayList<>();
+
+        assertEquals("skipped", reader.nextKey());
+        reader.skipValue();
+        assertEquals("empty", reader.nextKey());
+        reader.readArray(entries::add);
+        assertEquals(0, entries.size());
+        assertEquals("noises", reader.nextKey());
+        reader.readArray(entries::add);
+        assertEquals(Arrays.asList("A", "B"), entries);
+        assertNull(reader.nextKey());
+    }
+
+    @Test
+    void malformedCatalogTest() {
+        try {
+            new CatalogStreamReader(new StringReader("[]"));
+            fail();
+        } catch (JSONException e) {
+            // expected
+        }
+
+        CatalogStreamReader reader = new CatalogStreamReader(new StringReader("{\"items\": [{} {}]}"));
+        assertEquals("items", reader.nextKey());
+        try {
+            reader.readArray(entry -> { });
+            fail();
+        } catch (JSONException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package model.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledCatalogFileTest {
+    File sourceFile;
+    File compiledFile;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        sourceFile = File.createTempFile("testSource", ".json");
+        compiledFile = File.createTempFile("testCompiled", ".bin");
+        writeSource("{\"items\": []}");
+        compiledFile.delete();
+    }
+
+    @AfterEach
+    void runAfter() {
+        sourceFile.delete();
+        compiledFile.delete();
+    }
+
+    @Test
+    void writeAndOpenTest() throws IOException {
+        CompiledCatalogFile.Builder builder = new CompiledCatalogFile.Builder(7, 3);
+        int listStart = builder.addPoolStrings(Arrays.asList("Bone", "Ball"));
+        builder.addRecord(builder.addString("Kira Kira"), listStart, 2);
+        builder.addRecord(builder.addString("Ball"), -5, 0);
+        builder.write(compiledFile, sourceFile);
+
+        CompiledCatalogFile compiled = CompiledCatalogFile.open(compiledFile, sourceFile, 7);
+        assertNotNull(compiled);
+        assertEquals(2, compiled.getRecordCount());
+        assertEquals("Kira Kira", compiled.getString(compiled.getRecordInt(0, 0)));
+        assertEquals("Bone", compiled.getString(compiled.getPoolInt(compiled.getRecordInt(0, 1))));
+        assertEquals("Ball", compiled.getString(compiled.getPoolInt(compiled.getRecordInt(0, 1) + 1)));
+        assertEquals(compiled.getPoolInt(1), compiled.getRecordInt(1, 0));
+        assertEquals(-5, compiled.getRecordInt(1, 1));
+    }
+
+    @Test
+    void openMissingOrOtherKindTest() throws IOException {
+        assertNull(CompiledCatalogFile.open(compiledFile, sourceFile, 7));
+
+        new CompiledCatalogFile.Builder(7, 1).write(compiledFile, sourceFile);
+        assertNull(CompiledCatalogFile.open(compiledFile, sourceFile, 8));
+        assertNotNull(CompiledCatalogFile.open(compiledFile, sourceFile, 7));
+    }
+
+    @Test
+    void openStaleTest() throws IOException {
+        new CompiledCatalogFile.Builder(7, 1).write(compiledFile, sourceFile);
+        writeSource("{\"items\": [], \"more\": []}");
+
+        assertNull(CompiledCatalogFile.open(compiledFile, sourceFile, 7));
+    }
+
+    @Test
+    void openStaleSameSizeAndTimeTest() throws IOException {
+        writeSource("{\"items\": [1]}");
+        long lastModified = sourceFile.lastModified();
+        new CompiledCatalogFile.Builder(7, 1).write(compiledFile, sourceFile);
+        writeSource("{\"items\": [2]}");
+        assertTrue(sourceFile.setLastModified(lastModified));
+
+        assertNull(CompiledCatalogFile.open(compiledFile, sourceFile, 7));
+        writeSource("{\"items\": [1]}");
+        assertNotNull(CompiledCatalogFile.open(compiledFile, sourceFile, 7));
+    }
+
+    @Test
+    void checksumOfLargeSourceTest() throws IOException {
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            contents.append("{\"items\": [").append(i).append("]}\n");
+        }
+        writeSource(contents.toString());
+
+        CRC32 crc = new CRC32();
+        crc.update(contents.toString().getBytes(StandardCharsets.UTF_8));
+        assertEquals(crc.getValue(), CompiledCatalogFile.checksumOf(sourceFile));
+    }
+
+    // MODIFIES: sourceFile
+    // EFFECTS: replaces the contents of sourceFile with contents
+    private void writeSource(String contents) throws IOException {
+        try (FileWriter writer = new FileWriter(sourceFile)) {
+            writer.write(contents);
+        }
+    }
+}
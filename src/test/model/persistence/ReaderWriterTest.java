@@ -14,6 +14,9 @@ import java.util.ArrayList;
 import model.pets.*;
 import model.Player;
 import model.goodsandservices.Item;
+import model.goodsandservices.LocalShop;
+import model.goodsandservices.Shop;
+import model.goodsandservices.ShopRegistry;
 import ui.app.PixelPetGame;
 
 
@@ -49,6 +52,25 @@ class ReaderWriterTest {
             Pet expectedPet = new ExampleAnimal("Aleph", "Aleph");
             Pet actualPet = game.getPet();
             assertEqualsPet(expectedPet, actualPet);
+
+            long secondsSinceSave = reader.getSecondsSinceSave();
+            assertTrue(secondsSinceSave >= 0 && secondsSinceSave < 60);
+        } catch(Exception e) {
+            fail();
+        }
+    }
+
+    @Test
+    void ReadWriteLongSessionIdTest() {
+        try {
+            nextGame();
+            game.setSessionId(5000000000L);
+            writer = new PersistenceWriter(testPersistenceFile, game);
+            game.setSessionId(9);
+            reader = new PersistenceReader(testPersistenceFile, game, 5000000000L);
+
+            assertEquals(5000000000L, game.getSessionId());
+            assertEqualsPlayer(createNextPlayer(), game.getPlayer());
         } catch(Exception e) {
             fail();
         }
@@ -73,6 +95,40 @@ class ReaderWriterTest {
         }
     }
 
+    @Test
+    void ReadWriteManyShopsTest() {
+        try {
+            initialGame();
+            Shop secondShop = new LocalShop("Second Shop");
+            secondShop.addShopItem(new Item("Bone", "Toy"), 4);
+            game.addShop(secondShop);
+            writer = new PersistenceWriter(testPersistenceFile, game);
+
+            game.removeShop("Second Shop");
+            reader = new PersistenceReader(testPersistenceFile, game, 10);
+
+            ShopRegistry shops = game.getShops();
+            assertEquals(2, shops.size());
+            assertTrue(shops.contains(PixelPetGame.DEFAULT_SHOP_NAME));
+            assertEquals(4, game.getShopByName("Second Shop").getItemQuantity(new Item("Bone", "Toy")));
+            assertEquals(2, game.getRestockScheduler().size());
+        } catch(Exception e) {
+            fail();
+        }
+    }
+
+    @Test
+    void ReadSingleShopSaveTest() {
+        try {
+            reader = new PersistenceReader(new File("data/persistence/ExceptionTest.json"), game, 10);
+
+            assertEquals(1, game.getShops().size());
+            assertEquals(5, game.getShopByName(PixelPetGame.DEFAULT_SHOP_NAME).getShopItems().size());
+        } catch(Exception e) {
+            fail();
+        }
+    }
+
     void assertEqualsPlayer(Player expectedPlayer, Player actualPlayer) {
         assertEquals(expectedPlayer.getInventory().size(), actualPlayer.getInventory().size());
         assertEquals(expectedPlayer.getPlayerName(), actualPlayer.getPlayerName());
@@ -0,0 +1,63 @@
+package model.pets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreedRegistryTest {
+    BreedRegistry registry;
+
+    @BeforeEach
+    void runBefore() {
+        registry = BreedRegistry.getInstance();
+    }
+
+    @Test
+    void getInstanceTest() {
+        assertSame(registry, BreedRegistry.getInstance());
+    }
+
+    @Test
+    void getBreedProfileTest() throws IOException {
+        BreedProfile gimel = registry.getBreedProfile("ExampleAnimal", "Gimel");
+        assertEquals("Gimel", gimel.getBreedName());
+        assertEquals("gimel", gimel.getSpriteFilesDir());
+        assertEquals(Arrays.asList("Personality1", "Personality2", "Personality3"), gimel.getPersonalities());
+        assertEquals(Arrays.asList("Like1", "Like2", "Like3"), gimel.getLikes());
+        assertEquals(Arrays.asList("Dislike1", "Dislike2", "Dislike3"), gimel.getDislikes());
+        assertEquals(Arrays.asList("CannotHave1", "CannotHave2", "CannotHave3"), gimel.getCannotHaves());
+
+        assertSame(gimel, registry.getBreedProfile("ExampleAnimal", "Gimel"));
+        assertNull(registry.getBreedProfile("Dog", "Gimel"));
+    }
+
+    @Test
+    void breedProfileImmutableTest() throws IOException {
+        List<String> likes = registry.getBreedProfile("Dog", "Shiba Inu").getLikes();
+
+        try {
+            likes.add("Chicken");
+            fail();
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void getNoisesTest() throws IOException {
+        assertEquals(Arrays.asList("Woof!", "Bark!", "Ruff!"), registry.getNoises("Dog"));
+        assertSame(registry.getNoises("Dog"), registry.getBreedProfile("Dog", "Pug").getNoises());
+    }
+
+    @Test
+    void getBreedNamesTest() throws IOException {
+        ArrayList<String> dogBreeds = new ArrayList<>(Arrays.asList("Shiba Inu", "Husky", "Pug"));
+        assertEquals(dogBreeds, registry.getBreedNames("Dog"));
+    }
+}
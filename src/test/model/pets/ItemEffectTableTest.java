@@ -0,0 +1,97 @@
+package model.pets;
+
+import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static model.pets.ItemEffectTable.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ItemEffectTableTest {
+    ItemCatalog catalog;
+    Item chicken;
+    Item blob;
+    Item bone;
+    ItemEffectTable table;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        catalog = ItemCatalog.getInstance();
+        chicken = catalog.getItem("Chicken", "Food");
+        blob = catalog.getItem("Blob", "Unknown");
+        bone = catalog.getItem("Bone", "Toy");
+
+        BitSet liked = catalog.getIdsNamed(Arrays.asList("Chicken", "Blob"));
+        BitSet disliked = catalog.getIdsNamed(Arrays.asList("Chicken", "Bone"));
+        BitSet cannotHave = catalog.getIdsNamed(Arrays.asList("Grapes"));
+        table = new ItemEffectTable(catalog, liked, disliked, cannotHave);
+    }
+
+    @Test
+    void getGainLikesTest() {
+        assertEquals((int) (chicken.getHappinessPoints() * Pet.likesMultiplier),
+                table.getGain(chicken.getId(), HAPPINESS));
+        assertEquals((int) (chicken.getHungerPoints() * Pet.likesMultiplier),
+                table.getGain(chicken.getId(), HUNGER));
+        assertEquals((int) (blob.getHealthPoints() * Pet.likesMultiplier),
+                table.getGain(blob.getId(), HEALTH));
+    }
+
+    @Test
+    void getGainDislikesTest() {
+        assertEquals((int) (bone.getHappinessPoints() * Pet.dislikesMultiplier),
+                table.getGain(bone.getId(), HAPPINESS));
+        assertEquals((int) (bone.getThirstPoints() * Pet.dislikesMultiplier),
+                table.getGain(bone.getId(), THIRST));
+    }
+
+    @Test
+    void isLethalTest() {
+        assertTrue(table.isLethal(catalog.getItem("Grapes", "Food").getId()));
+        assertFalse(table.isLethal(chicken.getId()));
+    }
+
+    @Test
+    void getConsumeStateTest() {
+        assertEquals(State.EATING, table.getConsumeState(chicken.getId()));
+        assertEquals(State.PLAYING, table.getConsumeState(bone.getId()));
+        assertNull(table.getConsumeState(blob.getId()));
+    }
+
+    @Test
+    void coversTest() {
+        assertTrue(table.covers(0));
+        assertTrue(table.covers(catalog.size() - 1));
+        assertFalse(table.covers(catalog.size()));
+        assertFalse(table.covers(-1));
+    }
+
+    @Test
+    void consumeItemDoesNotAllocateTest() throws IOException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        Pet pet = new Dog("Pet", "Shiba Inu");
+        pet.addLikes("Chicken");
+
+        for (int i = 0; i < 100000; i++) {
+            pet.consumeItem(chicken);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000000; i++) {
+            pet.consumeItem(chicken);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 1024, "consumeItem allocated " + allocated + " bytes over 1000000 calls");
+    }
+}
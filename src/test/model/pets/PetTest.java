@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import model.goodsandservices.Item;
+import model.goodsandservices.ItemCatalog;
 
 import static ui.app.PixelPetGame.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -109,10 +110,10 @@ class PetTest {
         animal.setLikes(likes);
 
         animal.consumeItem(item1);
-        assertEquals((int) (50 + item1.getHappinessPoints() * animal.likesMultiplier), animal.getHappiness());
-        assertEquals((int) (50 + item1.getHungerPoints() * animal.likesMultiplier), animal.getHunger());
-        assertEquals((int) (50 + item1.getThirstPoints() * animal.likesMultiplier), animal.getThirst());
-        assertEquals((int) (50 + item1.getHealthPoints() * animal.likesMultiplier), animal.getHealth());
+        assertEquals((int) (50 + item1.getHappinessPoints() * Pet.likesMultiplier), animal.getHappiness());
+        assertEquals((int) (50 + item1.getHungerPoints() * Pet.likesMultiplier), animal.getHunger());
+        assertEquals((int) (50 + item1.getThirstPoints() * Pet.likesMultiplier), animal.getThirst());
+        assertEquals((int) (50 + item1.getHealthPoints() * Pet.likesMultiplier), animal.getHealth());
         assertEquals(State.EATING, animal.getState());
     }
 
@@ -135,10 +136,10 @@ class PetTest {
         animal.setDislikes(dislikes);
 
         animal.consumeItem(item1);
-        assertEquals((int) (50 + item1.getHappinessPoints() * animal.dislikesMultiplier), animal.getHappiness());
-        assertEquals((int) (50 + item1.getHungerPoints() * animal.dislikesMultiplier), animal.getHunger());
-        assertEquals((int) (50 + item1.getThirstPoints() * animal.dislikesMultiplier), animal.getThirst());
-        assertEquals((int) (50 + item1.getHealthPoints() * animal.dislikesMultiplier), animal.getHealth());
+        assertEquals((int) (50 + item1.getHappinessPoints() * Pet.dislikesMultiplier), animal.getHappiness());
+        assertEquals((int) (50 + item1.getHungerPoints() * Pet.dislikesMultiplier), animal.getHunger());
+        assertEquals((int) (50 + item1.getThirstPoints() * Pet.dislikesMultiplier), animal.getThirst());
+        assertEquals((int) (50 + item1.getHealthPoints() * Pet.dislikesMultiplier), animal.getHealth());
         assertEquals(State.EATING, animal.getState());
     }
 
@@ -168,6 +169,62 @@ class PetTest {
         assertEquals(State.EATING, animal.getState());
     }
 
+    @Test
+    void consumeItemsTest() throws IOException {
+        ExampleAnimal looped = new ExampleAnimal("Pet2", "Aleph");
+        Item bone = new Item("Bone", "Toy");
+        Item blob = new Item("Blob", "Unknown");
+        int[] startingLevels = {-20, 0, 50, 99, 100, 150};
+        int[] quantities = {1, 2, 3, 7, 40, 1000};
+
+        for (Item item : Arrays.asList(bone, blob)) {
+            for (int level : startingLevels) {
+                for (int quantity : quantities) {
+                    setAllCareLevels(animal, level);
+                    setAllCareLevels(looped, level);
+
+                    animal.consumeItems(item, quantity);
+                    for (int i = 0; i < quantity; i++) {
+                        looped.consumeItem(item);
+                    }
+                    assertEquals(looped.alertCareStats(), animal.alertCareStats());
+                    assertEquals(looped.getState(), animal.getState());
+                }
+            }
+        }
+    }
+
+    @Test
+    void consumeItemsCannotHaveTest() throws IOException {
+        Item chicken = new Item("Chicken", "Food");
+        ArrayList<String> cannotHaves = new ArrayList<>();
+        cannotHaves.add("Chicken");
+        animal.setCannotHaves(cannotHaves);
+        setAllCareLevels(animal, 50);
+
+        animal.consumeItems(chicken, 5);
+        assertEquals(50, animal.getHappiness());
+        assertEquals(-999, animal.getHealth());
+        assertEquals(State.EATING, animal.getState());
+    }
+
+    @Test
+    void consumeItemsNoneTest() throws IOException {
+        setAllCareLevels(animal, 50);
+
+        animal.consumeItems(new Item("Chicken", "Food"), 0);
+        assertEquals(new ArrayList<>(Arrays.asList(50, 50, 50, 50)), animal.alertCareStats());
+        assertEquals(State.IDLING, animal.getState());
+    }
+
+    // helper for consumeItems tests; sets every care level of pet to level
+    void setAllCareLevels(Pet pet, int level) {
+        pet.setHappiness(level);
+        pet.setHunger(level);
+        pet.setThirst(level);
+        pet.setHealth(level);
+    }
+
     @Test
     void makeNoiseTest() {
         assertNotEquals(0, animal.makeNoise().length());
@@ -249,6 +306,24 @@ class PetTest {
         assertTrue(animal.checkIfCannotHave(bone));
     }
 
+    @Test
+    void checkBreedPreferencesTest() throws IOException {
+        Dog dog = new Dog("Pet2", "Shiba Inu");
+        Item salmon = new Item("Salmon Chunks", "Food");
+        Item chocolate = new Item("Chocolate", "Food");
+        Item chickenToy = new Item("Chicken", "Toy");
+
+        assertTrue(dog.checkIfLikes(salmon));
+        assertTrue(dog.checkIfCannotHave(chocolate));
+        assertFalse(dog.checkIfLikes(chickenToy));
+
+        dog.addLikes("Chicken");
+        assertTrue(dog.checkIfLikes(chickenToy));
+        assertTrue(dog.checkIfLikes(new Item("Chicken", "Food")));
+        dog.removeCannotHaves("Chocolate");
+        assertFalse(dog.checkIfCannotHave(chocolate));
+    }
+
     @Test
     void checkIsDeadTest() {
         animal.setHappiness(0);
@@ -484,6 +559,40 @@ class PetTest {
         assertEquals(expectedVal2, animal.getCannotHaves());
     }
 
+    @Test
+    void sharedBreedProfileTest() throws IOException {
+        ExampleAnimal other = new ExampleAnimal("Pet2", "Aleph");
+        assertSame(animal.getBreedProfile(), other.getBreedProfile());
+
+        animal.addLikes("Chicken");
+        ArrayList<String> expectedVal1 = new ArrayList<>(Arrays.asList("Like1", "Chicken"));
+        ArrayList<String> expectedVal2 = new ArrayList<>();
+        expectedVal2.add("Like1");
+        assertEquals(expectedVal1, animal.getLikes());
+        assertEquals(expectedVal2, other.getLikes());
+        assertEquals(expectedVal2, animal.getBreedProfile().getLikes());
+
+        assertThrows(UnsupportedOperationException.class, () -> other.getDislikes().add("Chicken"));
+        assertThrows(UnsupportedOperationException.class, () -> animal.getLikes().add("Bone"));
+        assertEquals(1, other.getDislikes().size());
+        assertEquals(expectedVal1, animal.getLikes());
+    }
+
+    @Test
+    void catchUpWithReloadedProfileTest() throws IOException {
+        ExampleAnimal other = new ExampleAnimal("Pet2", "Aleph");
+        other.addLikes("Chicken");
+        ItemCatalog catalog = ItemCatalog.reload();
+        BreedProfile reloaded = BreedRegistry.reload().getBreedProfile("ExampleAnimal", "Aleph");
+
+        animal.consumeItem(new Item("Bone", "Toy"));
+        other.consumeItem(new Item("Bone", "Toy"));
+        assertSame(reloaded, animal.getBreedProfile());
+        assertTrue(reloaded.getItemEffects().isBuiltFrom(catalog));
+        assertNotSame(reloaded, other.getBreedProfile());
+        assertTrue(other.checkIfLikes(catalog.getItem("Chicken", "Food")));
+    }
+
     @Test
     void stateTest() {
         animal.setState(State.MOVING);